@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.5.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.seowon"
@@ -25,10 +26,14 @@ repositories {
 }
 
 dependencies {
+	implementation("org.springframework.boot:spring-boot-starter-actuator")
 	implementation("org.springframework.boot:spring-boot-starter-data-jpa")
+	implementation("org.springframework.boot:spring-boot-starter-oauth2-resource-server")
 	implementation("org.springframework.boot:spring-boot-starter-security")
 	implementation("org.springframework.boot:spring-boot-starter-web")
 	implementation("org.springframework.boot:spring-boot-starter-validation")
+	implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor")
+	implementation("org.flywaydb:flyway-core")
 	compileOnly("org.projectlombok:lombok")
 	runtimeOnly("com.h2database:h2")
 	annotationProcessor("org.projectlombok:lombok")
@@ -40,3 +45,52 @@ dependencies {
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
+
+// 부하 발생기 (애플리케이션과 별도로 실행): ./gradlew loadTest -PloadArgs="--duration=60s --concurrency=32"
+sourceSets {
+	create("loadtest")
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Replays a catalog/checkout/bulk-job mix against a running instance"
+	classpath = sourceSets["loadtest"].runtimeClasspath
+	mainClass.set("com.seowon.coding.loadtest.LoadDriver")
+	args = (project.findProperty("loadArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// 감사 로그 오프라인 재생: ./gradlew auditReplay -PauditArgs="--dir=/tmp/coding-audit --order=42"
+tasks.register<JavaExec>("auditReplay") {
+	group = "application"
+	description = "Reads the memory-mapped audit log segments and replays them into a summary"
+	classpath = sourceSets["main"].runtimeClasspath
+	mainClass.set("com.seowon.coding.service.audit.AuditReplayTool")
+	args = (project.findProperty("auditArgs") as String?)?.split(" ")?.filter { it.isNotBlank() } ?: emptyList()
+}
+
+// 빠른 기동: 학습 실행(warm-up 후 종료)으로 CDS 아카이브 생성 → build/cds/application.jsa
+// ./gradlew cdsArchive [-PcdsArgs="--spring.profiles.active=faststart"]
+val cdsDir = layout.buildDirectory.dir("cds")
+val javaLauncher = javaToolchains.launcherFor { languageVersion = JavaLanguageVersion.of(21) }
+
+tasks.register<Exec>("cdsExtract") {
+	group = "build"
+	description = "Extracts the boot jar into a CDS-friendly layout"
+	dependsOn(tasks.bootJar)
+	doFirst { delete(cdsDir.get().dir("application")) }
+	commandLine(javaLauncher.get().executablePath.asFile.absolutePath, "-Djarmode=tools", "-jar",
+		tasks.bootJar.get().archiveFile.get().asFile.absolutePath,
+		"extract", "--destination", cdsDir.get().dir("application").asFile.absolutePath)
+}
+
+tasks.register<Exec>("cdsArchive") {
+	group = "build"
+	description = "Runs a warm-up training run and dumps a class-data-sharing archive"
+	dependsOn("cdsExtract")
+	val trainingArgs = (project.findProperty("cdsArgs") as String? ?: "--spring.profiles.active=faststart")
+		.split(" ").filter { it.isNotBlank() }
+	commandLine(listOf(javaLauncher.get().executablePath.asFile.absolutePath,
+		"-XX:ArchiveClassesAtExit=" + cdsDir.get().file("application.jsa").asFile.absolutePath,
+		"-jar", cdsDir.get().file("application/${project.name}-${project.version}.jar").asFile.absolutePath,
+		"--app.warmup.exit-after-warmup=true") + trainingArgs)
+}
@@ -0,0 +1,137 @@
+package com.seowon.coding.bench;
+
+import com.seowon.coding.CodingApplication;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.audit.AuditEventType;
+import com.seowon.coding.service.audit.AuditLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 스레드 4개가 동시에 주문 1건(주문 기록 + 상품 3개 재고 차감)을 감사 로그에 남기는 비용
+ * - baseline: 감사 기록 없이 같은 값만 계산, append: ring buffer 기록 (파일 기록은 writer 스레드가 별도로 수행)
+ * - placeOrder: 애플리케이션 컨텍스트에서 실제 주문 처리 (audit=true/false 비교)
+ * - 종료 시 audit.dropped 를 출력. 0 이 아니면 버린 만큼 기록 비용이 빠진 결과이므로 비교에 쓰지 않음
+ * 실행: ./gradlew jmh -Pjmh.includes=AuditLogBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class AuditLogBenchmark {
+
+    Path directory;
+    AuditLog auditLog;
+    final AtomicLong orderIds = new AtomicLong();
+
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("audit-bench");
+        auditLog = new AuditLog(true, directory, DataSize.ofMegabytes(64), 65536, Duration.ofSeconds(1), Duration.ofMillis(5), new SimpleMeterRegistry());
+        auditLog.start();
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        System.out.println("audit.dropped (append) = " + auditLog.getDropped());
+        auditLog.close();
+        try (var files = Files.list(directory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public void baseline(Blackhole blackhole) {
+        long orderId = orderIds.incrementAndGet();
+        blackhole.consume(orderId);
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(orderId * 3 + i);
+        }
+    }
+
+    @Benchmark
+    public void append(Blackhole blackhole) {
+        long orderId = orderIds.incrementAndGet();
+        blackhole.consume(auditLog.append(AuditEventType.ORDER_PLACED, orderId, 3, 3_000));
+        for (int i = 0; i < 3; i++) {
+            blackhole.consume(auditLog.append(AuditEventType.STOCK_CHANGED, orderId * 3 + i, -1, AuditEventType.NONE));
+        }
+    }
+
+    @Benchmark
+    public Object placeOrder(OrderApp app) {
+        // 스레드 간 같은 상품 행 잠금 경합을 줄이도록 주문마다 다른 상품 3개
+        int first = (int) (app.orders.getAndIncrement() % (app.productIds.size() / 3)) * 3;
+        return app.orderService.placeOrder("bench", "bench@example.com",
+                app.productIds.subList(first, first + 3), List.of(1, 1, 1));
+    }
+
+    @State(Scope.Benchmark)
+    public static class OrderApp {
+
+        @Param({"true", "false"})
+        boolean audit;
+
+        Path directory;
+        ConfigurableApplicationContext context;
+        OrderService orderService;
+        List<Long> productIds;
+        final AtomicLong orders = new AtomicLong();
+
+        @Setup
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("audit-bench-app");
+            context = new SpringApplicationBuilder(CodingApplication.class)
+                    .web(WebApplicationType.NONE)
+                    .run("--app.audit.enabled=" + audit,
+                            "--app.audit.directory=" + directory,
+                            "--app.orders.expiry.enabled=false",
+                            "--app.archive.enabled=false",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.root=WARN");
+            orderService = context.getBean(OrderService.class);
+            ProductRepository products = context.getBean(ProductRepository.class);
+            productIds = IntStream.range(0, 300)
+                    .mapToObj(i -> products.save(Product.builder().name("bench-" + i).price(Money.of("10.00"))
+                            .stockQuantity(Integer.MAX_VALUE).category("bench").build()).getId())
+                    .toList();
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            double dropped = context.getBean(MeterRegistry.class).get("audit.dropped").gauge().value();
+            System.out.println("audit.dropped (placeOrder, audit=" + audit + ") = " + (long) dropped);
+            context.close();
+            try (var files = Files.list(directory)) {
+                for (Path file : files.toList()) {
+                    Files.delete(file);
+                }
+            }
+            Files.delete(directory);
+        }
+    }
+}
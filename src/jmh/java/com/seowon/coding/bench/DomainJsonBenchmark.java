@@ -0,0 +1,101 @@
+package com.seowon.coding.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.seowon.coding.config.json.DomainJsonModule;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 페이지(1k 건, 주문당 3개 항목 + 상품) 응답 직렬화 비용: reflection 기반 Jackson vs DomainJsonModule
+ * DomainJsonModule 은 OrderItem/Product 만 전용 writer 로 기록하고 Order 는 양쪽 모두 기본 Jackson 직렬화
+ * (Order 전용 writer 는 로딩되지 않은 items 를 생략해 응답이 조회 경로에 따라 달라지므로 제외)
+ * 실행: ./gradlew jmh -Pjmh.includes=DomainJsonBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainJsonBenchmark {
+
+    @Param({"1000"})
+    int orders;
+
+    ObjectWriter reflective;
+    ObjectWriter precompiled;
+    List<Order> page;
+    CountingOutputStream out;
+
+    @Setup
+    public void setUp() {
+        reflective = Jackson2ObjectMapperBuilder.json().build().writer();
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().modules(new DomainJsonModule()).build();
+        precompiled = mapper.writer();
+        out = new CountingOutputStream();
+
+        page = new ArrayList<>(orders);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= orders; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                Product product = Product.builder()
+                        .id((long) i * 3 + j).name("Product " + j).description("Description of product " + j)
+                        .price(Money.ofMinor(1_000L + j)).stockQuantity(j * 10).category("category-" + j)
+                        .updatedAt(now).build();
+                // 기본 Jackson 은 order 역참조를 따라가면 순환하므로 비워 둠 (DomainJsonModule 은 기록하지 않음)
+                items.add(OrderItem.builder().id((long) i * 3 + j).product(product).quantity(j + 1).price(product.getPrice()).build());
+            }
+            page.add(Order.builder()
+                    .id((long) i).customerName("Customer " + i).customerEmail("customer" + i + "@example.com")
+                    .status(Order.OrderStatus.PENDING).orderDate(now).items(items).totalAmount(Money.ofMinor(3_000L + i))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public long reflectiveJackson() throws IOException {
+        out.count = 0;
+        reflective.writeValue(out, page);
+        return out.count;
+    }
+
+    @Benchmark
+    public long domainJsonModule() throws IOException {
+        out.count = 0;
+        precompiled.writeValue(out, page);
+        return out.count;
+    }
+
+    // 응답 스트림 대신 바이트 수만 세어 버퍼 복사 비용을 제외
+    static final class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+
+        @Override
+        public void close() {
+            // writeValue 가 스트림을 닫아도 재사용
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.seowon.coding.bench;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 합계 계산: BigDecimal 누적 vs Order.recalculateTotalAmount (Money, long minor unit 누적)
+ * 실행: ./gradlew jmh -Pjmh.includes=MoneyBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+
+    @Param({"5", "50"})
+    int items;
+
+    BigDecimal[] decimalPrices;
+    int[] quantities;
+    Order order;
+
+    @Setup
+    public void setUp() {
+        decimalPrices = new BigDecimal[items];
+        quantities = new int[items];
+        order = Order.create("bench", "bench@example.com", LocalDateTime.now());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < items; i++) {
+            long cents = random.nextLong(100, 100_000);
+            decimalPrices[i] = BigDecimal.valueOf(cents, 2);
+            quantities[i] = random.nextInt(1, 5);
+            order.addItem(OrderItem.builder().quantity(quantities[i]).price(Money.ofMinor(cents)).build());
+        }
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimalTotal() {
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < items; i++) {
+            total = total.add(decimalPrices[i].multiply(BigDecimal.valueOf(quantities[i])));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public Money moneyTotal() {
+        order.recalculateTotalAmount();
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,129 @@
+package com.seowon.coding.bench;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.seowon.coding.controller.dto.CreateOrderRequest;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 목록 인코딩/디코딩 비용과 payload 크기: JSON vs CBOR
+ * 실행: ./gradlew jmh -Pjmh.includes=WireFormatBenchmark (payload 크기는 각 벤치마크의 bytes 보조 지표로 보고)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"10", "1000"})
+    int orders;
+
+    ObjectMapper json;
+    ObjectMapper cbor;
+    JavaType productListType;
+    List<Order> orderList;
+    List<Product> productList;
+    byte[] productsJson;
+    byte[] productsCbor;
+    byte[] requestJson;
+    byte[] requestCbor;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = json.copyWith(new CBORFactory());
+        productListType = json.getTypeFactory().constructCollectionType(List.class, Product.class);
+
+        orderList = new ArrayList<>(orders);
+        productList = new ArrayList<>(orders);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 1; i <= orders; i++) {
+            Product product = Product.builder()
+                    .id((long) i).name("Product " + i).description("Description of product " + i)
+                    .price(Money.ofMinor(1_000L + i)).stockQuantity(i % 100).category("category-" + (i % 10))
+                    .updatedAt(now).build();
+            productList.add(product);
+
+            List<OrderItem> items = new ArrayList<>();
+            for (int j = 0; j < 3; j++) {
+                // order 역참조는 비워 둠 (엔티티 그대로 직렬화하면 순환)
+                items.add(OrderItem.builder().id((long) i * 3 + j).quantity(j + 1).price(product.getPrice()).build());
+            }
+            orderList.add(Order.builder()
+                    .id((long) i).customerName("Customer " + i).customerEmail("customer" + i + "@example.com")
+                    .status(Order.OrderStatus.PENDING).orderDate(now).items(items).totalAmount(Money.ofMinor(3_000L + i))
+                    .build());
+        }
+
+        productsJson = json.writeValueAsBytes(productList);
+        productsCbor = cbor.writeValueAsBytes(productList);
+        Map<String, Object> request = Map.of(
+                "customerName", "John Doe",
+                "customerEmail", "john@example.com",
+                "products", List.of(Map.of("productId", 1, "quantity", 2), Map.of("productId", 3, "quantity", 1)));
+        requestJson = json.writeValueAsBytes(request);
+        requestCbor = cbor.writeValueAsBytes(request);
+    }
+
+    /**
+     * 한 번의 인코딩/디코딩이 다룬 payload 크기 (합산하지 않고 마지막 값을 보고)
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Benchmark
+    public byte[] encodeOrdersJson(Payload payload) throws IOException {
+        byte[] encoded = json.writeValueAsBytes(orderList);
+        payload.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public byte[] encodeOrdersCbor(Payload payload) throws IOException {
+        byte[] encoded = cbor.writeValueAsBytes(orderList);
+        payload.bytes = encoded.length;
+        return encoded;
+    }
+
+    @Benchmark
+    public List<Product> decodeProductsJson(Payload payload) throws IOException {
+        payload.bytes = productsJson.length;
+        return json.readValue(productsJson, productListType);
+    }
+
+    @Benchmark
+    public List<Product> decodeProductsCbor(Payload payload) throws IOException {
+        payload.bytes = productsCbor.length;
+        return cbor.readValue(productsCbor, productListType);
+    }
+
+    @Benchmark
+    public CreateOrderRequest decodeCreateOrderJson(Payload payload) throws IOException {
+        payload.bytes = requestJson.length;
+        return json.readValue(requestJson, CreateOrderRequest.class);
+    }
+
+    @Benchmark
+    public CreateOrderRequest decodeCreateOrderCbor(Payload payload) throws IOException {
+        payload.bytes = requestCbor.length;
+        return cbor.readValue(requestCbor, CreateOrderRequest.class);
+    }
+}
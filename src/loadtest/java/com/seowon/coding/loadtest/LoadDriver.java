@@ -0,0 +1,268 @@
+package com.seowon.coding.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실행 중인 애플리케이션에 카탈로그 조회 / 주문 / 일괄 작업을 섞어서 보내는 closed-loop 부하 발생기
+ * 외부 라이브러리 없이 JDK HttpClient 만 사용
+ * <p>
+ * 실행: ./gradlew loadTest -PloadArgs="--duration=60s --concurrency=32 --mix=read:80,checkout:18,bulk:2"
+ * 옵션: --base-url, --user, --password, --duration, --warmup, --concurrency, --mix, --products, --orders, --categories, --seed
+ */
+public class LoadDriver {
+
+    private static final Pattern TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final Map<String, String> options;
+    private final HttpClient client;
+    private final URI baseUri;
+    private final String[] operations;
+    private final int[] cumulativeWeights;
+    private String authorization;
+
+    LoadDriver(Map<String, String> options) {
+        this.options = options;
+        this.baseUri = URI.create(option("base-url", "http://localhost:8080"));
+        this.client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+
+        List<String> names = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        int sum = 0;
+        for (String entry : option("mix", "read:80,checkout:18,bulk:2").split(",")) {
+            String[] parts = entry.split(":");
+            names.add(parts[0]);
+            sum += Integer.parseInt(parts[1]);
+            weights.add(sum);
+        }
+        this.operations = names.toArray(String[]::new);
+        this.cumulativeWeights = weights.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        new LoadDriver(options).run();
+    }
+
+    void run() throws Exception {
+        authorization = "Bearer " + issueToken();
+
+        int concurrency = Integer.parseInt(option("concurrency", "32"));
+        long warmupNanos = parseDuration(option("warmup", "10s"));
+        long durationNanos = parseDuration(option("duration", "60s"));
+        long seed = Long.parseLong(option("seed", "7"));
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long deadline = measureFrom + durationNanos;
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<String, Recorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            SplittableRandom random = new SplittableRandom(seed + i);
+            futures.add(executor.submit(() -> work(random, measureFrom, deadline)));
+        }
+
+        Map<String, Recorder> total = new TreeMap<>();
+        for (Future<Map<String, Recorder>> future : futures) {
+            future.get().forEach((op, recorder) -> total.computeIfAbsent(op, k -> new Recorder()).merge(recorder));
+        }
+        executor.shutdown();
+
+        report(total, durationNanos, concurrency);
+    }
+
+    private Map<String, Recorder> work(SplittableRandom random, long measureFrom, long deadline) {
+        Map<String, Recorder> recorders = new HashMap<>();
+        long now;
+        while ((now = System.nanoTime()) < deadline) {
+            String op = pick(random);
+            HttpRequest request = request(op, random);
+
+            int status;
+            try {
+                status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            } catch (Exception e) {
+                status = -1;
+            }
+            long latency = System.nanoTime() - now;
+
+            if (now >= measureFrom) {
+                recorders.computeIfAbsent(op, k -> new Recorder()).record(latency, status);
+            }
+        }
+        return recorders;
+    }
+
+    private String pick(SplittableRandom random) {
+        int r = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (r < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private HttpRequest request(String op, SplittableRandom random) {
+        int products = Integer.parseInt(option("products", "10000"));
+        int orders = Integer.parseInt(option("orders", "100000"));
+        int categories = Integer.parseInt(option("categories", "20"));
+
+        return switch (op) {
+            case "read" -> random.nextInt(10) < 8
+                    ? get("/api/products/" + random.nextInt(1, products + 1))
+                    : get("/api/products?category=Category-" + random.nextInt(categories));
+            case "checkout" -> {
+                StringBuilder body = new StringBuilder("{\"customerName\":\"Load Test\",\"customerEmail\":\"load")
+                        .append(random.nextInt(1000)).append("@example.com\",\"products\":[");
+                int items = random.nextInt(1, 4);
+                for (int i = 0; i < items; i++) {
+                    if (i > 0) {
+                        body.append(',');
+                    }
+                    body.append("{\"productId\":").append(random.nextInt(1, products + 1))
+                            .append(",\"quantity\":").append(random.nextInt(1, 3)).append('}');
+                }
+                yield post("/api/orders", body.append("]}").toString());
+            }
+            case "bulk" -> {
+                StringBuilder body = new StringBuilder("{\"jobId\":\"load-").append(UUID.randomUUID()).append("\",\"orderIds\":[");
+                for (int i = 0; i < 100; i++) {
+                    if (i > 0) {
+                        body.append(',');
+                    }
+                    body.append(random.nextInt(1, orders + 1));
+                }
+                yield post("/api/jobs/bulk-ship", body.append("]}").toString());
+            }
+            default -> throw new IllegalArgumentException("Unknown operation: " + op);
+        };
+    }
+
+    private HttpRequest get(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", authorization)
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private String issueToken() throws Exception {
+        String credentials = option("user", "admin") + ":" + option("password", "admin");
+        HttpRequest request = HttpRequest.newBuilder(baseUri.resolve("/api/auth/token"))
+                .header("Authorization", "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8)))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Token request failed: " + response.statusCode() + " " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    private static void report(Map<String, Recorder> recorders, long durationNanos, int concurrency) {
+        double seconds = durationNanos / 1e9;
+        System.out.printf("%nconcurrency=%d duration=%.0fs%n", concurrency, seconds);
+        System.out.printf("%-10s %10s %10s %9s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        long all = 0;
+        for (Map.Entry<String, Recorder> entry : recorders.entrySet()) {
+            Recorder r = entry.getValue();
+            all += r.count;
+            System.out.printf("%-10s %10d %10d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    entry.getKey(), r.count, r.errors, r.count / seconds,
+                    r.percentileMillis(50), r.percentileMillis(90), r.percentileMillis(99),
+                    r.percentileMillis(99.9), r.percentileMillis(100));
+            r.statuses.forEach((status, count) -> System.out.printf("%-10s   status %d: %d%n", "", status, count));
+        }
+        System.out.printf("%-10s %10d %10s %9.1f%n", "total", all, "", all / seconds);
+    }
+
+    private String option(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    private static long parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return TimeUnit.MILLISECONDS.toNanos(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return TimeUnit.SECONDS.toNanos(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return TimeUnit.MINUTES.toNanos(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return TimeUnit.SECONDS.toNanos(Long.parseLong(value));
+    }
+
+    /**
+     * 요청별 지연 시간을 모두 보관 후 정렬하여 백분위 계산
+     */
+    static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private boolean sorted;
+        private long errors;
+        private final Map<Integer, Long> statuses = new TreeMap<>();
+
+        void record(long latencyNanos, int status) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = latencyNanos;
+            if (status < 200 || status >= 400) {
+                errors++;
+            }
+            statuses.merge(status, 1L, Long::sum);
+        }
+
+        void merge(Recorder other) {
+            if (count + other.count > latencies.length) {
+                latencies = Arrays.copyOf(latencies, count + other.count);
+            }
+            System.arraycopy(other.latencies, 0, latencies, count, other.count);
+            count += other.count;
+            errors += other.errors;
+            other.statuses.forEach((status, c) -> statuses.merge(status, c, Long::sum));
+        }
+
+        double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+            if (!sorted) {
+                Arrays.sort(latencies, 0, count);
+                sorted = true;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return latencies[Math.max(0, Math.min(count - 1, index))] / 1e6;
+        }
+    }
+}
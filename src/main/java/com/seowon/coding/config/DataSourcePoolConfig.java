@@ -0,0 +1,39 @@
+package com.seowon.coding.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+
+/**
+ * 운영 프로파일에서 Hikari 풀 크기를 CPU 코어 수에 맞춰 설정
+ * maximumPoolSize = cores * connections-per-core + extra-connections
+ */
+@Slf4j
+@Configuration
+@Profile("prod")
+public class DataSourcePoolConfig {
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizer(Environment env) {
+        int perCore = env.getProperty("app.datasource.connections-per-core", Integer.class, 2);
+        int extra = env.getProperty("app.datasource.extra-connections", Integer.class, 1);
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    int cores = Runtime.getRuntime().availableProcessors();
+                    int poolSize = Math.max(2, cores * perCore + extra);
+                    hikari.setMaximumPoolSize(poolSize);
+                    hikari.setMinimumIdle(poolSize); // 고정 크기 풀: 부하 급증 시 커넥션 생성 비용 제거
+                    log.info("Hikari pool sized to {} (cores={}, perCore={}, extra={})", poolSize, cores, perCore, extra);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,29 +1,119 @@
 package com.seowon.coding.config;
 
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+import java.util.regex.Pattern;
+
+@Slf4j
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
+    public static final String ROLES_CLAIM = "roles";
+
+    // {bcrypt}, {noop} 처럼 인코딩 방식이 붙은 비밀번호
+    private static final Pattern ENCODED_PASSWORD = Pattern.compile("^\\{.+}.*$");
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable) // Disable CSRF
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)) // No HTTP session per request
+            .requestCache(AbstractHttpConfigurer::disable)
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/h2-console/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/health/liveness", "/actuator/health/readiness").permitAll() // 상세 정보 없이 상태만 노출
+                .requestMatchers(HttpMethod.POST, "/api/orders/bulk-delete", "/api/products/bulk-delete").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/products/price-batches", "/api/products/price-batches/*/rollback").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
             .headers(headers -> headers
                 .contentSecurityPolicy(csp -> csp.policyDirectives("frame-ancestors 'self'")))  // Allow H2 console
-            .httpBasic(httpBasic -> {})  // Enable HTTP Basic Auth
+            .httpBasic(httpBasic -> {})  // Enable HTTP Basic Auth (token issue endpoint, legacy clients)
+            .oauth2ResourceServer(oauth2 -> oauth2
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())))  // Bearer token: HMAC check only
             .formLogin(AbstractHttpConfigurer::disable);  // Disable form login
 
         return http.build();
     }
-}
\ No newline at end of file
+
+    @Bean
+    public PasswordEncoder passwordEncoder() {
+        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
+    }
+
+    /**
+     * HTTP Basic 사용자 (spring.security.user.*)
+     * JwtDecoder 빈이 있으면 UserDetailsServiceAutoConfiguration 이 물러나므로 직접 등록
+     */
+    @Bean
+    public InMemoryUserDetailsManager userDetailsService(SecurityProperties properties, PasswordEncoder passwordEncoder) {
+        SecurityProperties.User user = properties.getUser();
+        if (user.isPasswordGenerated()) {
+            log.warn("Using generated security password: {}", user.getPassword());
+        }
+        String password = ENCODED_PASSWORD.matcher(user.getPassword()).matches()
+                ? user.getPassword()
+                : passwordEncoder.encode(user.getPassword());
+        return new InMemoryUserDetailsManager(User.withUsername(user.getName())
+                .password(password)
+                .roles(user.getRoles().toArray(String[]::new))
+                .build());
+    }
+
+    @Bean
+    public SecretKey tokenSigningKey(@Value("${app.security.token.secret}") String base64Secret) {
+        byte[] secret = Base64.getDecoder().decode(base64Secret);
+        if (secret.length < 32) {
+            throw new IllegalStateException("app.security.token.secret must be at least 256 bits");
+        }
+        return new SecretKeySpec(secret, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenSigningKey) {
+        return NimbusJwtDecoder.withSecretKey(tokenSigningKey).macAlgorithm(MacAlgorithm.HS256).build();
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    private JwtAuthenticationConverter jwtAuthenticationConverter() {
+        // roles 클레임의 값(ROLE_*)을 그대로 authority 로 사용
+        JwtGrantedAuthoritiesConverter authorities = new JwtGrantedAuthoritiesConverter();
+        authorities.setAuthoritiesClaimName(ROLES_CLAIM);
+        authorities.setAuthorityPrefix("");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authorities);
+        return converter;
+    }
+}
@@ -0,0 +1,24 @@
+package com.seowon.coding.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * JVM 시작부터 ApplicationReady 까지의 콜드 스타트 시간을 기록
+ */
+@Slf4j
+@Component
+public class StartupTimeReporter {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report(ApplicationReadyEvent event) {
+        long jvmUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+        long contextMs = event.getTimeTaken() == null ? -1 : event.getTimeTaken().toMillis();
+        log.info("Startup completed: jvmUptime={}ms, contextReady={}ms, profiles={}",
+                jvmUptimeMs, contextMs, String.join(",", event.getApplicationContext().getEnvironment().getActiveProfiles()));
+    }
+}
@@ -0,0 +1,21 @@
+package com.seowon.coding.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+/**
+ * 내부 서비스용 바이너리 포맷 (Accept / Content-Type: application/cbor)
+ * JSON 과 같은 ObjectMapper 설정(모듈, Money 직렬화 등)을 CBOR 팩토리로 복사해 사용하며,
+ * 기본 converter 를 대체하므로 순서는 JSON 다음 (Accept 가 없으면 JSON 응답)
+ */
+@Configuration
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(ObjectMapper objectMapper) {
+        return new MappingJackson2CborHttpMessageConverter(objectMapper.copyWith(new CBORFactory()));
+    }
+}
@@ -0,0 +1,192 @@
+package com.seowon.coding.config.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 관측된 응답 시간 기반의 적응형 동시성 제한 (gradient 방식)
+ * - longRtt(지수 평균)와 방금 끝난 요청의 rtt 비율로 limit 을 조정: 지연이 늘면 줄이고, 안정적이면 조금씩 늘림
+ * - limit 을 넘는 요청은 최대 maxQueue 개까지 maxWait 동안 대기, 그 외는 즉시 거절
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Rejection {
+        QUEUE_FULL, TIMEOUT
+    }
+
+    private static final double SMOOTHING = 0.2;
+    private static final double LONG_RTT_ALPHA = 0.01;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final long maxWaitNanos;
+    private final double tolerance;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private double longRttNanos;
+    private int inflight;
+    private int queued;
+
+    private final AtomicLong rejectedQueueFull = new AtomicLong();
+    private final AtomicLong rejectedTimeout = new AtomicLong();
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                      int maxQueue, long maxWaitMillis, double tolerance) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.maxQueue = maxQueue;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return 허용되면 permit 이 있는 Result, 거절되면 사유가 있는 Result
+     */
+    public Result acquire() throws InterruptedException {
+        lock.lock();
+        try {
+            if (inflight < (int) limit) {
+                inflight++;
+                return Result.admitted(new Permit(System.nanoTime()));
+            }
+            if (queued >= maxQueue) {
+                rejectedQueueFull.incrementAndGet();
+                return Result.rejected(Rejection.QUEUE_FULL);
+            }
+
+            queued++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inflight >= (int) limit) {
+                    if (remaining <= 0) {
+                        rejectedTimeout.incrementAndGet();
+                        return Result.rejected(Rejection.TIMEOUT);
+                    }
+                    remaining = released.awaitNanos(remaining);
+                }
+            } finally {
+                queued--;
+            }
+            inflight++;
+            return Result.admitted(new Permit(System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onComplete(long rttNanos, boolean sample) {
+        lock.lock();
+        try {
+            int inflightAtCompletion = inflight;
+            inflight--;
+            if (sample) {
+                updateLimit(rttNanos, inflightAtCompletion);
+            }
+            released.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void updateLimit(long rttNanos, int inflightAtCompletion) {
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            return;
+        }
+        longRttNanos = longRttNanos * (1 - LONG_RTT_ALPHA) + rttNanos * LONG_RTT_ALPHA;
+
+        // 실제로 limit 의 절반도 쓰지 않는 상태에서는 늘리지 않음 (app-limited)
+        if (rttNanos <= longRttNanos && inflightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double queueAllowance = Math.sqrt(limit);
+        double newLimit = limit * gradient + queueAllowance;
+        newLimit = limit * (1 - SMOOTHING) + newLimit * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInflight() {
+        lock.lock();
+        try {
+            return inflight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected(Rejection reason) {
+        return reason == Rejection.QUEUE_FULL ? rejectedQueueFull.get() : rejectedTimeout.get();
+    }
+
+    public final class Permit {
+        private final long startNanos;
+        private boolean released;
+
+        private Permit(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * 정상 완료: 응답 시간을 limit 계산에 반영
+         */
+        public void success() {
+            release(true);
+        }
+
+        /**
+         * 예외 등으로 응답 시간이 의미 없는 경우: 반환만 하고 limit 계산에서 제외
+         */
+        public void ignore() {
+            release(false);
+        }
+
+        private void release(boolean sample) {
+            if (released) {
+                return;
+            }
+            released = true;
+            onComplete(System.nanoTime() - startNanos, sample);
+        }
+    }
+
+    public record Result(Permit permit, Rejection rejection) {
+        static Result admitted(Permit permit) {
+            return new Result(permit, null);
+        }
+
+        static Result rejected(Rejection rejection) {
+            return new Result(null, rejection);
+        }
+
+        public boolean isAdmitted() {
+            return permit != null;
+        }
+    }
+}
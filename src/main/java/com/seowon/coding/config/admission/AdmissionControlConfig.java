@@ -0,0 +1,49 @@
+package com.seowon.coding.config.admission;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.Set;
+
+/**
+ * 쓰기 API admission control 설정 (app.admission.*)
+ * 인증을 통과한 요청만 limiter 를 사용하도록 security filter chain 다음에 등록
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.admission", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AdmissionControlConfig {
+
+    @Bean
+    public FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter(
+            MeterRegistry meterRegistry,
+            // 필터가 handler mapping 보다 먼저 만들어지므로 첫 요청 때 조회
+            @Qualifier("requestMappingHandlerMapping") ObjectProvider<RequestMappingHandlerMapping> handlerMapping,
+            @Value("${app.admission.initial-limit:20}") int initialLimit,
+            @Value("${app.admission.min-limit:4}") int minLimit,
+            @Value("${app.admission.max-limit:200}") int maxLimit,
+            @Value("${app.admission.max-queue:50}") int maxQueue,
+            @Value("${app.admission.max-wait-ms:200}") long maxWaitMillis,
+            @Value("${app.admission.rtt-tolerance:2.0}") double tolerance,
+            @Value("${app.admission.retry-after-seconds:1}") int retryAfterSeconds) {
+
+        AdmissionControlFilter filter = new AdmissionControlFilter(
+                Set.of("/api/orders", "/api/products"),
+                Set.of("/api/products/availability"), // POST 이지만 메모리 조회만 하는 API
+                handlerMapping::getObject,
+                () -> new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, maxQueue, maxWaitMillis, tolerance),
+                meterRegistry,
+                retryAfterSeconds);
+
+        FilterRegistrationBean<AdmissionControlFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
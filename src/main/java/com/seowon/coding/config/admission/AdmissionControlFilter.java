@@ -0,0 +1,177 @@
+package com.seowon.coding.config.admission;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 주문/상품 쓰기 API 에 대한 route 별 admission control
+ * - route 는 "METHOD 매핑 패턴" (예: "PUT /api/orders/{id}") 단위로 limiter 를 가짐
+ * - 패턴은 첫 요청 때 handler mapping 에서 한 번 읽어 고정하므로 limiter/gauge 수는 매핑 수를 넘지 않음
+ * - 어떤 매핑에도 맞지 않는 요청(404 가 될 경로 등)은 하나의 공유 limiter 를 사용
+ * - 대기열이 가득 차면 429, 대기 시간 초과 시 503 을 Retry-After 와 함께 즉시 반환
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+    private final Set<String> pathPrefixes;
+    private final Set<String> excludedPaths;
+    private final Supplier<RequestMappingHandlerMapping> handlerMapping;
+    private final Supplier<AdaptiveConcurrencyLimiter> limiterFactory;
+    private final MeterRegistry meterRegistry;
+    private final String retryAfterSeconds;
+
+    private volatile List<Route> routes;
+
+    public AdmissionControlFilter(Set<String> pathPrefixes,
+                                  Set<String> excludedPaths,
+                                  Supplier<RequestMappingHandlerMapping> handlerMapping,
+                                  Supplier<AdaptiveConcurrencyLimiter> limiterFactory,
+                                  MeterRegistry meterRegistry,
+                                  int retryAfterSeconds) {
+        this.pathPrefixes = pathPrefixes;
+        this.excludedPaths = excludedPaths;
+        this.handlerMapping = handlerMapping;
+        this.limiterFactory = limiterFactory;
+        this.meterRegistry = meterRegistry;
+        this.retryAfterSeconds = String.valueOf(retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!WRITE_METHODS.contains(request.getMethod())) {
+            return true;
+        }
+        String uri = request.getRequestURI();
+        return excludedPaths.contains(uri) || pathPrefixes.stream().noneMatch(uri::startsWith);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String route = resolveRoute(request);
+        AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(route, this::newLimiter);
+
+        AdaptiveConcurrencyLimiter.Result result;
+        try {
+            result = limiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        if (!result.isAdmitted()) {
+            meterRegistry.counter("admission.rejected", "route", route, "reason", result.rejection().name()).increment();
+            reject(response, result.rejection() == AdaptiveConcurrencyLimiter.Rejection.QUEUE_FULL
+                    ? HttpStatus.TOO_MANY_REQUESTS
+                    : HttpStatus.SERVICE_UNAVAILABLE);
+            return;
+        }
+
+        AdaptiveConcurrencyLimiter.Permit permit = result.permit();
+        try {
+            chain.doFilter(request, response);
+            permit.success();
+        } finally {
+            permit.ignore(); // 예외 시에만 동작 (이미 success 로 반환된 경우 무시)
+        }
+    }
+
+    /**
+     * 요청에 맞는 가장 구체적인 매핑의 route key. 맞는 매핑이 없으면 UNMATCHED_ROUTE
+     */
+    String resolveRoute(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        String method = request.getMethod();
+        for (Route route : routes()) {
+            if (route.methods().contains(method) && route.pattern().matches(path)) {
+                return route.key();
+            }
+        }
+        return UNMATCHED_ROUTE;
+    }
+
+    private List<Route> routes() {
+        List<Route> current = routes;
+        if (current == null) {
+            synchronized (this) {
+                current = routes;
+                if (current == null) {
+                    current = loadRoutes();
+                    routes = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private List<Route> loadRoutes() {
+        List<Route> loaded = new ArrayList<>();
+        handlerMapping.get().getHandlerMethods().keySet().forEach(info -> {
+            Set<RequestMethod> declared = info.getMethodsCondition().getMethods();
+            // 메서드 제한이 없는 매핑은 모든 쓰기 메서드에 맞음
+            Set<String> methods = declared.isEmpty() ? WRITE_METHODS : declared.stream()
+                    .map(RequestMethod::name)
+                    .filter(WRITE_METHODS::contains)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            if (methods.isEmpty()) {
+                return;
+            }
+            String methodKey = declared.isEmpty() ? "ANY" : String.join("|", methods);
+            for (String value : info.getPatternValues()) {
+                if (pathPrefixes.stream().anyMatch(value::startsWith)) {
+                    PathPattern pattern = PathPatternParser.defaultInstance.parse(value);
+                    loaded.add(new Route(methods, pattern, methodKey + " " + pattern.getPatternString()));
+                }
+            }
+        });
+        // 리터럴 경로가 같은 위치의 변수 경로보다 먼저 맞도록 구체적인 순서로 정렬
+        loaded.sort(Comparator.comparing(Route::pattern, PathPattern.SPECIFICITY_COMPARATOR));
+        return List.copyOf(loaded);
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(String route) {
+        AdaptiveConcurrencyLimiter limiter = limiterFactory.get();
+        Gauge.builder("admission.limit", limiter, AdaptiveConcurrencyLimiter::getLimit).tag("route", route).register(meterRegistry);
+        Gauge.builder("admission.inflight", limiter, AdaptiveConcurrencyLimiter::getInflight).tag("route", route).register(meterRegistry);
+        Gauge.builder("admission.queued", limiter, AdaptiveConcurrencyLimiter::getQueued).tag("route", route).register(meterRegistry);
+        log.info("Admission limiter created for route {}", route);
+        return limiter;
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status) {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+    }
+
+    private record Route(Set<String> methods, PathPattern pattern, String key) {
+    }
+}
@@ -0,0 +1,37 @@
+package com.seowon.coding.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션을 replica 로 라우팅
+ * LazyConnectionDataSourceProxy 로 감싸서 트랜잭션 속성이 정해진 뒤 커넥션을 얻도록 해야 함
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final WriteStickiness writeStickiness;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, WriteStickiness writeStickiness) {
+        this.lagMonitor = lagMonitor;
+        this.writeStickiness = writeStickiness;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return route();
+    }
+
+    Route route() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && lagMonitor.isWithinTolerance()
+                && !writeStickiness.isSticky()) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+}
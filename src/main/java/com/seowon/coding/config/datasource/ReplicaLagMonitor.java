@@ -0,0 +1,63 @@
+package com.seowon.coding.config.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * heartbeat 방식의 복제 지연 측정
+ * - primary 의 replica_heartbeat 행을 주기적으로 갱신하고, replica 에서 읽은 값과 현재 시각의 차이를 지연으로 봄
+ * - 지연이 maxLagMillis 를 넘거나 replica 조회가 실패하면 읽기도 primary 로 보냄
+ * - heartbeat 쓰기는 primary 트랜잭션으로 커밋 (auto-commit 이 꺼진 풀은 반환 시 롤백하므로)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final TransactionTemplate primaryTransaction;
+    private final long maxLagMillis;
+
+    private volatile long lagMillis = Long.MAX_VALUE;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.primaryTransaction = new TransactionTemplate(new DataSourceTransactionManager(primary));
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.heartbeat-ms:500}")
+    public void beat() {
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            primaryTransaction.executeWithoutResult(status -> {
+                if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                    primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+                }
+            });
+
+            Timestamp replicated = replica.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Timestamp.class);
+            lagMillis = replicated == null ? Long.MAX_VALUE : Math.max(0, System.currentTimeMillis() - replicated.getTime());
+        } catch (RuntimeException e) {
+            if (lagMillis != Long.MAX_VALUE) {
+                log.warn("Replica heartbeat failed, routing reads to primary: {}", e.getMessage());
+            }
+            lagMillis = Long.MAX_VALUE;
+        }
+    }
+
+    public boolean isWithinTolerance() {
+        return lagMillis <= maxLagMillis;
+    }
+
+    public long getLagMillis() {
+        return lagMillis;
+    }
+}
@@ -0,0 +1,62 @@
+package com.seowon.coding.config.datasource;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes: 쓰기 트랜잭션을 커밋한 사용자(없으면 스레드)는 stickyMillis 동안 읽기도 primary 로 보냄
+ */
+public class WriteStickiness implements TransactionExecutionListener {
+
+    private final long stickyMillis;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+    private final ThreadLocal<Long> lastWriteByThread = new ThreadLocal<>();
+
+    public WriteStickiness(long stickyMillis) {
+        this.stickyMillis = stickyMillis;
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure == null && transaction.isNewTransaction() && !transaction.isReadOnly()) {
+            markWrite();
+        }
+    }
+
+    public void markWrite() {
+        long now = System.currentTimeMillis();
+        String user = currentUser();
+        if (user != null) {
+            lastWriteByUser.put(user, now);
+        }
+        lastWriteByThread.set(now);
+    }
+
+    public boolean isSticky() {
+        long threshold = System.currentTimeMillis() - stickyMillis;
+        Long threadWrite = lastWriteByThread.get();
+        if (threadWrite != null && threadWrite > threshold) {
+            return true;
+        }
+        String user = currentUser();
+        Long userWrite = user == null ? null : lastWriteByUser.get(user);
+        return userWrite != null && userWrite > threshold;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - stickyMillis;
+        lastWriteByUser.values().removeIf(writtenAt -> writtenAt <= threshold);
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || !authentication.isAuthenticated() ? null : authentication.getName();
+    }
+}
@@ -0,0 +1,143 @@
+package com.seowon.coding.config.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * OrderItem / Product 전용 JSON(CBOR) writer
+ * - 필드 이름은 미리 인코딩(SerializedString)하고 getter 를 직접 호출하여 generator 에 바로 기록 (reflection, 중간 트리 없음)
+ * - 지연 로딩 연관을 초기화하지 않음: 초기화되지 않은 product 프록시는 {"id": ...} 로 기록
+ * - OrderItem.order 역참조는 기록하지 않음 (순환 방지)
+ * - 필드 구성과 순서는 기본 Jackson 직렬화 결과와 같음
+ * Order 는 기본 Jackson 직렬화(어노테이션 기반 속성)를 그대로 사용하며 items 를 항상 기록하므로,
+ * 응답용 주문은 항목/상품을 entity graph 로 함께 조회해야 함 (OrderRepository.findWithItemsById / findAllWithItems)
+ * Spring Boot 가 Module 빈을 ObjectMapper 에 등록하므로 JSON/CBOR converter 모두 사용
+ */
+@Component
+public class DomainJsonModule extends SimpleModule {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString PRICE = new SerializedString("price");
+    private static final SerializedString STOCK_QUANTITY = new SerializedString("stockQuantity");
+    private static final SerializedString CATEGORY = new SerializedString("category");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+    private static final SerializedString IN_STOCK = new SerializedString("inStock");
+    private static final SerializedString PRODUCT = new SerializedString("product");
+    private static final SerializedString QUANTITY = new SerializedString("quantity");
+    private static final SerializedString SUBTOTAL = new SerializedString("subtotal");
+
+    public DomainJsonModule() {
+        super("DomainJsonModule");
+        // 프록시(Product$HibernateProxy$...)는 상위 클래스 등록으로 찾음
+        addSerializer(Product.class, new ProductWriter());
+        addSerializer(OrderItem.class, new OrderItemWriter());
+    }
+
+    static final class ProductWriter extends JsonSerializer<Product> {
+        @Override
+        public void serialize(Product value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeProduct(value, gen, provider);
+        }
+    }
+
+    static final class OrderItemWriter extends JsonSerializer<OrderItem> {
+        @Override
+        public void serialize(OrderItem value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            writeOrderItem(value, gen, provider);
+        }
+    }
+
+    static void writeProduct(Product product, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (product instanceof HibernateProxy proxy) {
+            LazyInitializer initializer = proxy.getHibernateLazyInitializer();
+            if (initializer.isUninitialized()) {
+                gen.writeStartObject();
+                gen.writeFieldName(ID);
+                writeId(initializer.getIdentifier(), gen);
+                gen.writeEndObject();
+                return;
+            }
+            product = (Product) initializer.getImplementation();
+        }
+        gen.writeStartObject(product);
+        gen.writeFieldName(ID);
+        writeId(product.getId(), gen);
+        gen.writeFieldName(NAME);
+        gen.writeString(product.getName());
+        gen.writeFieldName(DESCRIPTION);
+        gen.writeString(product.getDescription());
+        gen.writeFieldName(PRICE);
+        writeMoney(product.getPrice(), gen);
+        gen.writeFieldName(STOCK_QUANTITY);
+        gen.writeNumber(product.getStockQuantity());
+        gen.writeFieldName(CATEGORY);
+        gen.writeString(product.getCategory());
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(product.getUpdatedAt(), gen, provider);
+        gen.writeFieldName(IN_STOCK);
+        gen.writeBoolean(product.isInStock());
+        gen.writeEndObject();
+    }
+
+    static void writeOrderItem(OrderItem item, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(item);
+        gen.writeFieldName(ID);
+        writeId(item.getId(), gen);
+        gen.writeFieldName(PRODUCT);
+        if (item.getProduct() == null) {
+            gen.writeNull();
+        } else {
+            writeProduct(item.getProduct(), gen, provider);
+        }
+        gen.writeFieldName(QUANTITY);
+        gen.writeNumber(item.getQuantity());
+        gen.writeFieldName(PRICE);
+        writeMoney(item.getPrice(), gen);
+        gen.writeFieldName(SUBTOTAL);
+        writeMoney(item.getPrice() == null ? null : item.getSubtotal(), gen);
+        gen.writeEndObject();
+    }
+
+    private static void writeId(Object id, JsonGenerator gen) throws IOException {
+        if (id == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber((Long) id);
+        }
+    }
+
+    private static void writeMoney(Money money, JsonGenerator gen) throws IOException {
+        if (money == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(money.toBigDecimal());
+        }
+    }
+
+    private static void writeDateTime(LocalDateTime value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (provider.isEnabled(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)) {
+            // 기본 설정과 다르게 구성된 경우 JavaTimeModule 형식을 그대로 따름
+            provider.defaultSerializeValue(value, gen);
+        } else {
+            gen.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value));
+        }
+    }
+}
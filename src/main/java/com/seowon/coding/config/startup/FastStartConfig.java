@@ -0,0 +1,31 @@
+package com.seowon.coding.config.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 기동 지연 측정 설정 (app.startup.*)
+ * 인증/admission 대기까지 포함한 응답 시간을 재도록 가장 바깥쪽 filter 로 등록
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.startup", name = "track-latency", havingValue = "true")
+public class FastStartConfig {
+
+    @Bean
+    public FilterRegistrationBean<StartupLatencyTracker> startupLatencyTracker(
+            MeterRegistry meterRegistry,
+            @Value("${app.startup.window-size:1000}") int windowSize,
+            @Value("${app.startup.tolerance:0.1}") double tolerance,
+            @Value("${app.startup.stable-windows:3}") int stableWindows) {
+        FilterRegistrationBean<StartupLatencyTracker> registration =
+                new FilterRegistrationBean<>(new StartupLatencyTracker(windowSize, tolerance, stableWindows, meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
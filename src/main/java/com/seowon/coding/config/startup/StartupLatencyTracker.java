@@ -0,0 +1,104 @@
+package com.seowon.coding.config.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 기동 직후 요청 지연 시간 추적
+ * - time-to-first-request: JVM 시작부터 첫 요청 응답 완료까지
+ * - time-to-steady-state: window-size 건 단위 p99 가 직전 window 대비 tolerance 이내로 stable-windows 번 연속 유지된 시점
+ * - 두 값을 로그와 startup.first-request / startup.steady-state 지표로 남기고, 정상 상태 도달 후에는 측정을 중단
+ */
+@Slf4j
+public class StartupLatencyTracker extends OncePerRequestFilter {
+
+    private final long[] window;
+    private final double tolerance;
+    private final int stableWindows;
+
+    private int count;
+    private long requests;
+    private double previousP99 = -1;
+    private int stableRun;
+    private volatile boolean firstRecorded;
+    private volatile boolean steady;
+    private volatile long firstRequestUptimeMs = -1;
+    private volatile long steadyStateUptimeMs = -1;
+
+    public StartupLatencyTracker(int windowSize, double tolerance, int stableWindows, MeterRegistry meterRegistry) {
+        this.window = new long[windowSize];
+        this.tolerance = tolerance;
+        this.stableWindows = stableWindows;
+        TimeGauge.builder("startup.first-request", this, TimeUnit.MILLISECONDS, t -> t.firstRequestUptimeMs)
+                .register(meterRegistry);
+        TimeGauge.builder("startup.steady-state", this, TimeUnit.MILLISECONDS, t -> t.steadyStateUptimeMs)
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (steady) {
+            chain.doFilter(request, response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(System.nanoTime() - started);
+        }
+    }
+
+    private void record(long latencyNanos) {
+        if (!firstRecorded) {
+            synchronized (this) {
+                if (!firstRecorded) {
+                    firstRequestUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+                    firstRecorded = true;
+                    log.info("First request served: uptime={}ms, latency={}us", firstRequestUptimeMs, latencyNanos / 1_000);
+                }
+            }
+        }
+        synchronized (this) {
+            if (steady) {
+                return;
+            }
+            requests++;
+            window[count++] = latencyNanos;
+            if (count == window.length) {
+                closeWindow();
+                count = 0;
+            }
+        }
+    }
+
+    private void closeWindow() {
+        Arrays.sort(window);
+        double p99 = window[(int) Math.ceil(window.length * 0.99) - 1];
+        if (previousP99 > 0 && Math.abs(p99 - previousP99) <= previousP99 * tolerance) {
+            stableRun++;
+        } else {
+            stableRun = 0;
+        }
+        log.debug("Startup window p99={}us (stable {}/{})", (long) p99 / 1_000, stableRun, stableWindows);
+        previousP99 = p99;
+        if (stableRun >= stableWindows) {
+            steadyStateUptimeMs = ManagementFactory.getRuntimeMXBean().getUptime();
+            steady = true;
+            log.info("Steady state reached: uptime={}ms, requests={}, p99={}us",
+                    steadyStateUptimeMs, requests, (long) p99 / 1_000);
+        }
+    }
+}
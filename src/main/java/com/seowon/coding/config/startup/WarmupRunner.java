@@ -0,0 +1,121 @@
+package com.seowon.coding.config.startup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.model.*;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 기동 직후 readiness 이전에 주요 경로를 미리 실행하여 클래스 로딩/JIT 컴파일을 앞당김
+ * - ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로, 끝날 때까지 readiness 가 ACCEPTING_TRAFFIC 으로 바뀌지 않음
+ * - placeOrder, 배송/할인 정책, 상품 조회, JSON 직렬화를 반복하며 모든 변경은 롤백 (커밋 후 동작인 재고 뷰/만료 예약도 실행되지 않음)
+ * - exit-after-warmup 이면 warm-up 후 종료 (CDS 아카이브 학습 실행용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.warmup", name = "enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String CATEGORY = "__warmup__";
+
+    private final OrderService orderService;
+    private final ProductService productService;
+    private final ProductRepository productRepository;
+    private final ShippingPolicy shippingPolicy;
+    private final DiscountPolicy discountPolicy;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ConfigurableApplicationContext context;
+    private final int iterations;
+    private final Duration maxDuration;
+    private final boolean exitAfterWarmup;
+
+    public WarmupRunner(OrderService orderService,
+                        ProductService productService,
+                        ProductRepository productRepository,
+                        ShippingPolicy shippingPolicy,
+                        DiscountPolicy discountPolicy,
+                        ObjectMapper objectMapper,
+                        PlatformTransactionManager transactionManager,
+                        ConfigurableApplicationContext context,
+                        @Value("${app.warmup.iterations:5000}") int iterations,
+                        @Value("${app.warmup.max-duration:30s}") Duration maxDuration,
+                        @Value("${app.warmup.exit-after-warmup:false}") boolean exitAfterWarmup) {
+        this.orderService = orderService;
+        this.productService = productService;
+        this.productRepository = productRepository;
+        this.shippingPolicy = shippingPolicy;
+        this.discountPolicy = discountPolicy;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.context = context;
+        this.iterations = iterations;
+        this.maxDuration = maxDuration;
+        this.exitAfterWarmup = exitAfterWarmup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long started = System.nanoTime();
+        long deadline = started + maxDuration.toNanos();
+        int completed = 0;
+        int failures = 0;
+        while (completed < iterations && System.nanoTime() < deadline) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    status.setRollbackOnly();
+                    exercise(status::flush);
+                });
+            } catch (RuntimeException e) {
+                // warm-up 실패로 기동을 막지 않음 (첫 실패만 기록)
+                if (failures++ == 0) {
+                    log.warn("Warm-up iteration failed", e);
+                }
+            }
+            completed++;
+        }
+        log.info("Warm-up completed: {} iterations ({} failed) in {} ms",
+                completed, failures, (System.nanoTime() - started) / 1_000_000);
+
+        if (exitAfterWarmup) {
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+    private void exercise(Runnable flush) {
+        Product product = productRepository.save(Product.builder()
+                .name("warm-up").price(Money.of("12.50")).stockQuantity(1_000).category(CATEGORY).build());
+
+        Order order = orderService.placeOrder("warm-up", "warm-up@example.com", List.of(product.getId()), List.of(2));
+        order.recalculateTotalAmount(shippingPolicy, discountPolicy, "SALE10");
+        order.recalculateTotalAmount();
+        order.recalculateTotalAmount(shippingPolicy, discountPolicy, null);
+        // 재고 차감 UPDATE 까지 실행
+        flush.run();
+
+        productService.getProductById(product.getId());
+        productService.findProductsByCategory(CATEGORY);
+        productService.getCatalogStamp(CATEGORY);
+        try {
+            objectMapper.writeValueAsBytes(order);
+            objectMapper.writeValueAsBytes(product);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.controller.dto.TokenResponse;
+import com.seowon.coding.service.TokenService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class AuthController {
+
+    private final TokenService tokenService;
+
+    /**
+     * HTTP Basic 으로 한 번 인증한 뒤 Bearer token 발급
+     */
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> issueToken(Authentication authentication) {
+        String token = tokenService.issue(authentication);
+        return ResponseEntity.ok(new TokenResponse(token, "Bearer", tokenService.getTtl().toSeconds()));
+    }
+}
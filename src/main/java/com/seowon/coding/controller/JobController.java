@@ -0,0 +1,78 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.controller.dto.BulkShipJobRequest;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.service.BulkShipJobService;
+import com.seowon.coding.service.ProcessService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.net.URI;
+
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+public class JobController {
+
+    private final BulkShipJobService bulkShipJobService;
+    private final ProcessService processService;
+
+    /**
+     * 작업을 등록하고 백그라운드에서 실행. 202 Accepted 와 상태 조회 URL(Location) 을 반환
+     */
+    @PostMapping("/bulk-ship")
+    public ResponseEntity<ProcessingStatus> startBulkShip(@RequestBody BulkShipJobRequest request) {
+        try {
+            ProcessingStatus status = bulkShipJobService.submit(request.getJobId(), request.getOrderIds());
+            return accepted(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 여러 노드에 같은 요청을 보내 파티션을 나눠 처리하는 분산 작업에 참여. 202 Accepted 와 상태 조회 URL(Location) 을 반환
+     */
+    @PostMapping("/bulk-ship/distributed")
+    public ResponseEntity<ProcessingStatus> startDistributedBulkShip(@RequestBody BulkShipJobRequest request) {
+        try {
+            return accepted(bulkShipJobService.submitDistributed(request.getJobId(), request.getOrderIds()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * 마지막 체크포인트부터 백그라운드에서 재개. 이미 완료된 작업이면 200 과 현재 상태
+     */
+    @PostMapping("/{jobId}/resume")
+    public ResponseEntity<ProcessingStatus> resume(@PathVariable String jobId) {
+        try {
+            ProcessingStatus status = bulkShipJobService.submitResume(jobId);
+            return status.getStatus() == ProcessingStatus.Status.COMPLETED ? ResponseEntity.ok(status) : accepted(status);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ProcessingStatus> getStatus(@PathVariable String jobId) {
+        return processService.findStatus(jobId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    private static ResponseEntity<ProcessingStatus> accepted(ProcessingStatus status) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/jobs/" + status.getJobId()))
+                .body(status);
+    }
+}
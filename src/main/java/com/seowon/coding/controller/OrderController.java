@@ -1,15 +1,28 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.controller.dto.BulkDeleteRequest;
 import com.seowon.coding.controller.dto.CreateOrderProductRequest;
 import com.seowon.coding.controller.dto.CreateOrderRequest;
+import com.seowon.coding.domain.model.CheckoutTicket;
 import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.service.BulkDeleteResult;
+import com.seowon.coding.service.BulkDeleteService;
 import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.checkout.AsyncCheckoutService;
+import com.seowon.coding.service.checkout.CheckoutQueueFullException;
+import com.seowon.coding.service.timeline.OrderTimelinePage;
+import com.seowon.coding.service.timeline.OrderTimelineService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,16 +32,36 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class OrderController {
     
+    private static final long MAX_TICKET_WAIT_MS = 25_000;
+
     private final OrderService orderService;
+    private final AsyncCheckoutService asyncCheckoutService;
+    private final BulkDeleteService bulkDeleteService;
+    private final OrderTimelineService orderTimelineService;
     
     @GetMapping
     public ResponseEntity<List<Order>> getAllOrders() {
-        return ResponseEntity.ok(orderService.getAllOrders());
+        return ResponseEntity.ok(orderService.getAllOrdersWithItems());
     }
     
+    /**
+     * 고객 주문 목록 (최신순). 다음 페이지: GET /api/orders/timeline?email=...&beforeDate={nextBeforeDate}&beforeId={nextBeforeId}
+     */
+    @GetMapping("/timeline")
+    public ResponseEntity<OrderTimelinePage> getTimeline(@RequestParam String email,
+                                                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeDate,
+                                                         @RequestParam(required = false) Long beforeId,
+                                                         @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(orderTimelineService.getTimeline(email, beforeDate, beforeId, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<Order> getOrderById(@PathVariable Long id) {
-        return orderService.getOrderById(id)
+        return orderService.getOrderWithItemsById(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
@@ -53,6 +86,20 @@ public class OrderController {
         }
     }
 
+    /**
+     * 일괄 삭제 (관리자). ids 가 있으면 id 목록으로, 없으면 status + olderThan 조건으로 삭제
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> bulkDelete(@RequestBody BulkDeleteRequest request) {
+        if (request.getIds() != null) {
+            return ResponseEntity.ok(bulkDeleteService.deleteOrders(request.getIds()));
+        }
+        if (request.getStatus() == null || request.getOlderThan() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(bulkDeleteService.deleteOrders(request.getStatus(), request.getOlderThan()));
+    }
+
     /**
      * TODO #2: 주문을 생성하는 API 구현
      * 구현목록:
@@ -88,4 +135,49 @@ public class OrderController {
                 .created(URI.create("/api/orders/" + order.getId()))
                 .body(order);
     }
-}
\ No newline at end of file
+
+    /**
+     * 비동기 주문 접수. 검증 후 접수표를 저장하고 202 Accepted 와 접수표 id 를 반환
+     */
+    @PostMapping("/async")
+    public ResponseEntity<CheckoutTicket> createOrderAsync(@RequestBody CreateOrderRequest request) {
+        List<Long> productIds = new ArrayList<>();
+        List<Integer> quantities = new ArrayList<>();
+        for (CreateOrderProductRequest product : request.getProducts() == null ? List.<CreateOrderProductRequest>of() : request.getProducts()) {
+            productIds.add(product.getProductId());
+            quantities.add(product.getQuantity());
+        }
+
+        try {
+            CheckoutTicket ticket = asyncCheckoutService.submit(request.getCustomerName(), request.getCustomerEmail(), productIds, quantities);
+            return ResponseEntity
+                    .accepted()
+                    .location(URI.create("/api/orders/tickets/" + ticket.getId()))
+                    .body(ticket);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (CheckoutQueueFullException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .build();
+        }
+    }
+
+    /**
+     * 접수표 상태 조회. waitMs 를 주면 처리 완료 또는 대기 시간 만료까지 응답을 보류 (long-poll)
+     */
+    @GetMapping("/tickets/{ticketId}")
+    public DeferredResult<ResponseEntity<CheckoutTicket>> getTicket(@PathVariable String ticketId,
+                                                                    @RequestParam(defaultValue = "0") long waitMs) {
+        DeferredResult<ResponseEntity<CheckoutTicket>> result = new DeferredResult<>(MAX_TICKET_WAIT_MS + 5_000);
+        asyncCheckoutService.poll(ticketId, Duration.ofMillis(Math.min(waitMs, MAX_TICKET_WAIT_MS)))
+                .whenComplete((ticket, error) -> {
+                    if (error != null) {
+                        result.setErrorResult(error);
+                    } else {
+                        result.setResult(ticket.map(ResponseEntity::ok).orElse(ResponseEntity.notFound().build()));
+                    }
+                });
+        return result;
+    }
+}
@@ -1,13 +1,43 @@
 package com.seowon.coding.controller;
 
+import com.seowon.coding.controller.dto.AvailabilityRequest;
+import com.seowon.coding.controller.dto.AvailabilityResponse;
+import com.seowon.coding.controller.dto.BulkDeleteRequest;
+import com.seowon.coding.controller.dto.BulkPriceChangeRequest;
+import com.seowon.coding.controller.dto.CreateOrderProductRequest;
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.CatalogStamp;
+import com.seowon.coding.domain.repository.PriceHistoryEntry;
+import com.seowon.coding.service.BulkDeleteResult;
+import com.seowon.coding.service.BulkDeleteService;
 import com.seowon.coding.service.ProductService;
+import com.seowon.coding.service.catalog.CatalogFormat;
+import com.seowon.coding.service.catalog.CatalogImportResult;
+import com.seowon.coding.service.catalog.ProductCatalogService;
+import com.seowon.coding.service.inventory.InventoryView;
+import com.seowon.coding.service.pricing.PriceChangeBatch;
+import com.seowon.coding.service.pricing.PriceHistoryService;
+import com.seowon.coding.service.pricing.PriceRollbackResult;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/products")
@@ -15,16 +45,43 @@ import java.util.List;
 public class ProductController {
     
     private final ProductService productService;
+    private final ProductCatalogService productCatalogService;
+    private final InventoryView inventoryView;
+    private final BulkDeleteService bulkDeleteService;
+    private final PriceHistoryService priceHistoryService;
     
+    /**
+     * If-None-Match / If-Modified-Since 가 현재 목록과 같으면 목록 조회/직렬화 없이 304 반환
+     */
     @GetMapping
-    public ResponseEntity<List<Product>> getAllProducts() {
-        return ResponseEntity.ok(productService.getAllProducts());
+    public ResponseEntity<List<Product>> getAllProducts(@RequestParam(required = false) String category, WebRequest request,
+                                                        HttpServletResponse response) {
+        CatalogStamp stamp = productService.getCatalogStamp(category);
+        if (request.checkNotModified(stamp.etag(), stamp.lastModifiedMillis())) {
+            notModifiedVary(response);
+            return null;
+        }
+        List<Product> products = category == null
+                ? productService.getAllProducts()
+                : productService.findProductsByCategory(category);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(products);
     }
     
+    /**
+     * updated_at 이 없는(마이그레이션 이전) 상품은 ETag 없이 그대로 반환
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Product> getProductById(@PathVariable Long id) {
+    public ResponseEntity<Product> getProductById(@PathVariable Long id, WebRequest request, HttpServletResponse response) {
+        Optional<CatalogStamp> stamp = productService.getProductStamp(id);
+        if (stamp.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (stamp.get().lastModified() != null && request.checkNotModified(stamp.get().etag(), stamp.get().lastModifiedMillis())) {
+            notModifiedVary(response);
+            return null;
+        }
         return productService.getProductById(id)
-                .map(ResponseEntity::ok)
+                .map(product -> ResponseEntity.ok().cacheControl(CacheControl.noCache()).varyBy(HttpHeaders.ACCEPT).body(product))
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -53,5 +110,121 @@ public class ProductController {
             return ResponseEntity.notFound().build();
         }
     }
-    
+
+    /**
+     * id 목록으로 일괄 삭제 (관리자). 주문에서 참조 중인 상품은 skipped 로 반환
+     */
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<BulkDeleteResult> bulkDelete(@RequestBody BulkDeleteRequest request) {
+        if (request.getIds() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(bulkDeleteService.deleteProducts(request.getIds()));
+    }
+
+    /**
+     * 가격 변경 이력 (시간순)
+     */
+    @GetMapping("/{id}/price-history")
+    public ResponseEntity<List<PriceHistoryEntry>> getPriceHistory(@PathVariable Long id) {
+        return ResponseEntity.ok(priceHistoryService.getHistory(id));
+    }
+
+    /**
+     * 특정 시점의 가격. GET /api/products/{id}/price?at=2025-01-01T00:00:00
+     */
+    @GetMapping("/{id}/price")
+    public ResponseEntity<Money> getPriceAsOf(@PathVariable Long id,
+                                              @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return priceHistoryService.getPriceAsOf(id, at)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 일괄 가격 변경 (관리자). 응답의 batchId 로 되돌릴 수 있음
+     */
+    @PostMapping("/price-batches")
+    public ResponseEntity<PriceChangeBatch> changePrices(@RequestBody BulkPriceChangeRequest request) {
+        if (request.getProductIds() == null || request.getProductIds().isEmpty() || request.getPercentage() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(priceHistoryService.applyBulkPriceChange(
+                request.getProductIds(), request.getPercentage(), request.isIncludeTax()));
+    }
+
+    /**
+     * 일괄 가격 변경 되돌리기 (관리자). 이후 다시 바뀐 상품은 건너뜀
+     */
+    @PostMapping("/price-batches/{batchId}/rollback")
+    public ResponseEntity<PriceRollbackResult> rollbackPrices(@PathVariable String batchId) {
+        try {
+            return ResponseEntity.ok(priceHistoryService.rollback(batchId));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * 전체 카탈로그 스트리밍 export
+     * GET /api/products/export?format=csv|ndjson|cbor
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCatalog(@RequestParam(defaultValue = "ndjson") String format) {
+        CatalogFormat catalogFormat;
+        try {
+            catalogFormat = CatalogFormat.fromName(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = out -> productCatalogService.export(catalogFormat, out);
+        return ResponseEntity.ok()
+                .contentType(catalogFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products." + catalogFormat.name().toLowerCase() + "\"")
+                .body(body);
+    }
+
+    /**
+     * 카탈로그 스트리밍 import (id 가 있으면 갱신, 없으면 등록). 행 단위 오류를 응답에 포함
+     * Content-Type: text/csv, application/x-ndjson 또는 application/cbor-seq
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE, "application/cbor-seq"})
+    public ResponseEntity<CatalogImportResult> importCatalog(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                             InputStream body) throws IOException {
+        CatalogFormat catalogFormat = CatalogFormat.fromMediaType(MediaType.parseMediaType(contentType));
+        return ResponseEntity.ok(productCatalogService.importCatalog(catalogFormat, body));
+    }
+
+    /**
+     * 여러 상품의 요청 수량 재고 여부를 메모리 재고 뷰에서 확인 (JPA/DB 조회 없음)
+     * productId 가 빠진 항목이 있으면 400, 존재할 수 없는 id(0 이하)는 available=false
+     */
+    @PostMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestBody AvailabilityRequest request) {
+        List<CreateOrderProductRequest> items = request.getItems() == null ? List.of() : request.getItems();
+        long[] productIds = new long[items.size()];
+        int[] quantities = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) == null || items.get(i).getProductId() == null) {
+                return ResponseEntity.badRequest().build();
+            }
+            productIds[i] = items.get(i).getProductId();
+            quantities[i] = items.get(i).getQuantity() == null ? 1 : items.get(i).getQuantity();
+        }
+
+        boolean[] available = inventoryView.checkAvailability(productIds, quantities);
+
+        boolean allAvailable = true;
+        List<AvailabilityResponse.Item> result = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            allAvailable &= available[i];
+            result.add(new AvailabilityResponse.Item(productIds[i], quantities[i], available[i]));
+        }
+        return ResponseEntity.ok(new AvailabilityResponse(allAvailable, result));
+    }
+
+    // 304 도 200 과 같은 Vary 를 보내야 캐시가 JSON/CBOR 표현을 구분함
+    private static void notModifiedVary(HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+    }
 }
\ No newline at end of file
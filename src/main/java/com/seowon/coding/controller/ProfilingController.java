@@ -0,0 +1,88 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.service.profiling.ProfileReport;
+import com.seowon.coding.service.profiling.ProfilingRecording;
+import com.seowon.coding.service.profiling.ProfilingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.NoSuchFileException;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * JFR 녹화 (관리자 전용)
+ * - POST /api/admin/profiling/recordings?settings=profile&seconds=60 : 녹화 시작 (seconds 후 자동 중지)
+ * - POST /api/admin/profiling/recordings/{id}/stop : 중지 후 요약 보고서
+ * - GET  /api/admin/profiling/recordings/{id}/report : 요약 보고서 (hot method, 할당, 커스텀 이벤트)
+ * - GET  /api/admin/profiling/recordings/{id}/file : 원본 .jfr (JDK Mission Control 또는 jfr print 로 분석)
+ */
+@RestController
+@RequestMapping("/api/admin/profiling/recordings")
+@RequiredArgsConstructor
+public class ProfilingController {
+
+    private final ProfilingService profilingService;
+
+    @GetMapping
+    public ResponseEntity<List<ProfilingRecording>> list() {
+        return ResponseEntity.ok(profilingService.list());
+    }
+
+    @PostMapping
+    public ResponseEntity<ProfilingRecording> start(@RequestParam(defaultValue = "profile") String settings,
+                                                    @RequestParam(defaultValue = "60") long seconds) throws IOException {
+        try {
+            ProfilingRecording recording = profilingService.start(settings, Duration.ofSeconds(seconds));
+            return ResponseEntity.created(URI.create("/api/admin/profiling/recordings/" + recording.id())).body(recording);
+        } catch (ParseException | NoSuchFileException | IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<ProfileReport> stop(@PathVariable long id) throws IOException {
+        try {
+            return ResponseEntity.ok(profilingService.stop(id));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @GetMapping("/{id}/report")
+    public ResponseEntity<ProfileReport> report(@PathVariable long id) throws IOException {
+        try {
+            return ResponseEntity.ok(profilingService.report(id));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> file(@PathVariable long id) {
+        try {
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"recording-" + id + ".jfr\"")
+                    .body(new FileSystemResource(profilingService.file(id)));
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
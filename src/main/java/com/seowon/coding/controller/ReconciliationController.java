@@ -0,0 +1,45 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.service.reconcile.OrderTotalReconciler;
+import com.seowon.coding.service.reconcile.ReconciliationResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Set;
+
+/**
+ * 주문 합계 검증/보정 (관리자 전용)
+ * - POST /api/admin/orders/reconcile?status=PENDING&fix=false&fromId=&toId= : 저장된 합계와 주문별 계산 기준으로 재계산한 결과 비교 (fix=true 면 보정)
+ * - POST /api/admin/orders/reprice : 미결 주문 합계를 현재 배송/할인 정책으로 다시 계산하여 저장
+ */
+@RestController
+@RequestMapping("/api/admin/orders")
+@RequiredArgsConstructor
+public class ReconciliationController {
+
+    private final OrderTotalReconciler reconciler;
+
+    @PostMapping("/reconcile")
+    public ResponseEntity<ReconciliationResult> reconcile(@RequestParam(required = false) Set<Order.OrderStatus> status,
+                                                          @RequestParam(defaultValue = "false") boolean fix,
+                                                          @RequestParam(required = false) Long fromId,
+                                                          @RequestParam(required = false) Long toId) {
+        try {
+            return ResponseEntity.ok(reconciler.reconcile(status, fix, fromId, toId));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    @PostMapping("/reprice")
+    public ResponseEntity<ReconciliationResult> reprice() {
+        try {
+            return ResponseEntity.ok(reconciler.repriceOpenOrders());
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+}
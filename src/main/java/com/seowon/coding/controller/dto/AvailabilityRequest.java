@@ -0,0 +1,12 @@
+package com.seowon.coding.controller.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class AvailabilityRequest {
+    private List<CreateOrderProductRequest> items;
+}
@@ -0,0 +1,21 @@
+package com.seowon.coding.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AvailabilityResponse {
+    private boolean allAvailable;
+    private List<Item> items;
+
+    @Getter
+    @AllArgsConstructor
+    public static class Item {
+        private Long productId;
+        private int quantity;
+        private boolean available;
+    }
+}
@@ -0,0 +1,19 @@
+package com.seowon.coding.controller.dto;
+
+import com.seowon.coding.domain.model.Order;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ids 또는 (status, olderThan) 중 하나로 대상 지정. 상품 삭제는 ids 만 사용
+ */
+@Getter
+@Setter
+public class BulkDeleteRequest {
+    private List<Long> ids;
+    private Order.OrderStatus status;
+    private LocalDateTime olderThan;
+}
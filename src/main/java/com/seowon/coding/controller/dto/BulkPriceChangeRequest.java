@@ -0,0 +1,18 @@
+package com.seowon.coding.controller.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * percentage 만큼 가격 변경 (예: 10 이면 10% 인상, -5 면 5% 인하). includeTax 면 VAT 10% 추가
+ */
+@Getter
+@Setter
+public class BulkPriceChangeRequest {
+    private List<Long> productIds;
+    private BigDecimal percentage;
+    private boolean includeTax;
+}
@@ -0,0 +1,13 @@
+package com.seowon.coding.controller.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkShipJobRequest {
+    private String jobId;
+    private List<Long> orderIds;
+}
@@ -0,0 +1,75 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관 기간이 지난 종료 주문 (DELIVERED/CANCELLED). OrderArchiver 가 orders 에서 옮겨 오며 읽기 전용
+ */
+@Entity
+@Immutable
+@Table(name = "orders_archive", indexes = {
+        @Index(name = "idx_orders_archive_order_date", columnList = "order_date"),
+        @Index(name = "idx_orders_archive_email_date", columnList = "customer_email, order_date"),
+        @Index(name = "idx_orders_archive_status_date", columnList = "status, order_date")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedOrder {
+
+    @Id
+    private Long id;
+
+    private String customerName;
+
+    private String customerEmail;
+
+    @Enumerated(EnumType.STRING)
+    private Order.OrderStatus status;
+
+    private LocalDateTime orderDate;
+
+    private Money totalAmount;
+
+    private LocalDateTime archivedAt;
+
+    @OneToMany(mappedBy = "order")
+    private List<ArchivedOrderItem> items = new ArrayList<>();
+
+    /**
+     * 조회 결과를 기존 Order 형태로 제공하기 위한 변환 (영속 상태가 아닌 값 객체로 사용)
+     * 상품은 삭제되었을 수 있으므로 조회하지 않고 archive 시점의 id/이름만 담은 값으로 채움 (가격은 항목의 주문 당시 가격)
+     */
+    public Order toOrder() {
+        Order order = Order.builder()
+                .id(id)
+                .customerName(customerName)
+                .customerEmail(customerEmail)
+                .status(status)
+                .orderDate(orderDate)
+                .totalAmount(totalAmount)
+                .archived(true)
+                .build();
+        for (ArchivedOrderItem archived : items) {
+            OrderItem item = OrderItem.builder()
+                    .id(archived.getId())
+                    .order(order)
+                    .product(archived.getProductId() == null ? null : Product.builder()
+                            .id(archived.getProductId())
+                            .name(archived.getProductName())
+                            .build())
+                    .quantity(archived.getQuantity())
+                    .price(archived.getPrice())
+                    .build();
+            order.getItems().add(item);
+        }
+        return order;
+    }
+}
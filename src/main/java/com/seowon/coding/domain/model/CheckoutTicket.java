@@ -0,0 +1,113 @@
+package com.seowon.coding.domain.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 비동기 주문 접수표. 접수 시 먼저 저장되므로 노드가 재시작되어도 ACCEPTED 상태로 남아 다시 처리됨
+ */
+@Entity
+@Table(name = "checkout_ticket", indexes = @Index(name = "idx_checkout_ticket_status_updated_at", columnList = "status, updated_at"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckoutTicket {
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    private String customerName;
+
+    private String customerEmail;
+
+    // "productId:quantity,productId:quantity"
+    @JsonIgnore
+    @Column(length = 4000)
+    private String items;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    // 처리 중인 노드 (JobCoordinator node-id)
+    @JsonIgnore
+    private String owner;
+
+    private Long orderId;
+
+    private String error;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        ACCEPTED, COMPLETED, FAILED
+    }
+
+    public static CheckoutTicket accept(String customerName, String customerEmail,
+                                        List<Long> productIds, List<Integer> quantities, String owner) {
+        StringBuilder items = new StringBuilder();
+        for (int i = 0; i < productIds.size(); i++) {
+            if (i > 0) {
+                items.append(',');
+            }
+            items.append(productIds.get(i)).append(':').append(quantities.get(i));
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return CheckoutTicket.builder()
+                .id(UUID.randomUUID().toString())
+                .customerName(customerName)
+                .customerEmail(customerEmail)
+                .items(items.toString())
+                .status(Status.ACCEPTED)
+                .owner(owner)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @JsonIgnore
+    public List<Long> getProductIds() {
+        List<Long> productIds = new ArrayList<>();
+        for (String item : items.split(",")) {
+            productIds.add(Long.parseLong(item.substring(0, item.indexOf(':'))));
+        }
+        return productIds;
+    }
+
+    @JsonIgnore
+    public List<Integer> getQuantities() {
+        List<Integer> quantities = new ArrayList<>();
+        for (String item : items.split(",")) {
+            quantities.add(Integer.parseInt(item.substring(item.indexOf(':') + 1)));
+        }
+        return quantities;
+    }
+
+    public boolean isDone() {
+        return status != Status.ACCEPTED;
+    }
+
+    public void complete(Long orderId, LocalDateTime now) {
+        this.status = Status.COMPLETED;
+        this.orderId = orderId;
+        this.updatedAt = now;
+    }
+
+    public void fail(String error, LocalDateTime now) {
+        this.status = Status.FAILED;
+        this.error = error;
+        this.updatedAt = now;
+    }
+}
@@ -0,0 +1,37 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 재개 가능한 일괄 작업의 처리 대상 주문 목록. (jobId, orderId) 순으로 keyset 커서 조회
+ */
+@Entity
+@IdClass(JobItem.Key.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobItem {
+    @Id
+    private String jobId;
+
+    @Id
+    private Long orderId;
+
+    // skip 정책에 의해 건너뛴 poison record
+    private boolean skipped;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String jobId;
+        private Long orderId;
+    }
+}
@@ -0,0 +1,60 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일괄 작업의 분할 단위 (주문 id 구간)
+ * - 여러 노드가 lease 기반으로 claim 하여 중복 처리 없이 나눠서 처리
+ * - lease 가 만료된 CLAIMED 파티션은 다른 노드가 가져갈 수 있음
+ */
+@Entity
+@Table(
+        uniqueConstraints = @UniqueConstraint(name = "uk_job_partition_job_no", columnNames = {"job_id", "partition_no"}),
+        indexes = @Index(name = "idx_job_partition_job_status", columnList = "job_id, status")
+)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobPartition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobId;
+
+    private int partitionNo;
+
+    // 처리 대상 주문 id 구간 (양 끝 포함)
+    private Long rangeStart;
+    private Long rangeEnd;
+
+    private int itemCount;
+
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    private String owner;
+
+    private LocalDateTime leaseUntil;
+
+    private LocalDateTime heartbeatAt;
+
+    // FAILED 인 경우 원인 (다시 claim 되지 않으며 job 은 끝나지 않은 상태로 남음)
+    private String lastError;
+
+    public enum Status {
+        PENDING, CLAIMED, DONE, FAILED
+    }
+
+    public boolean contains(Long orderId) {
+        return orderId >= rangeStart && orderId <= rangeEnd;
+    }
+}
@@ -1,15 +1,16 @@
 package com.seowon.coding.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders") // "order" is a reserved keyword in SQL
+@Table(name = "orders", // "order" is a reserved keyword in SQL
+        indexes = @Index(name = "idx_orders_status_order_date", columnList = "status, order_date"))
 @Data
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -33,7 +34,22 @@ public class Order {
     @Builder.Default
     private List<OrderItem> items = new ArrayList<>();
 
-    private BigDecimal totalAmount;
+    private Money totalAmount;
+
+    // totalAmount 를 계산한 기준과 그때 사용한 쿠폰 (합계 검증/재계산용, 기준이 없으면 알 수 없는 주문). 요청 본문으로 바꿀 수 없음
+    @Enumerated(EnumType.STRING)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private PricingBasis pricingBasis;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private String couponCode;
+
+    // archive 에서 변환된 비영속 사본 여부 (ArchivedOrder.toOrder). 저장할 수 없음
+    @Transient
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Setter(AccessLevel.NONE)
+    @Builder.Default
+    private boolean archived = false;
 
     public static Order create(String customerName, String customerEmail, LocalDateTime orderDate) {
         if (customerName == null || customerEmail == null) {
@@ -45,7 +61,8 @@ public class Order {
                 .customerEmail(customerEmail)
                 .status(OrderStatus.PENDING)
                 .orderDate(orderDate)
-                .totalAmount(BigDecimal.ZERO)
+                .totalAmount(Money.zero())
+                .pricingBasis(PricingBasis.ITEMS)
                 .build();
     }
 
@@ -63,16 +80,22 @@ public class Order {
     }
     
     public void recalculateTotalAmount() {
-        this.totalAmount = items.stream()
-                .map(OrderItem::getSubtotal)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        long total = 0L;
+        for (OrderItem item : items) {
+            total = Math.addExact(total, item.getSubtotalMinorUnits());
+        }
+        this.totalAmount = Money.ofMinor(total);
+        this.pricingBasis = PricingBasis.ITEMS;
+        this.couponCode = null;
     }
 
     public void recalculateTotalAmount(ShippingPolicy shippingPolicy, DiscountPolicy discountPolicy, String couponCode) {
-        BigDecimal shipping = shippingPolicy.calculateShipping(this);
-        BigDecimal discount = discountPolicy.calculateDiscount(couponCode);
+        Money shipping = shippingPolicy.calculateShipping(this);
+        Money discount = discountPolicy.calculateDiscount(couponCode);
 
-        this.totalAmount = this.totalAmount.add(shipping).subtract(discount);
+        this.totalAmount = this.totalAmount.plus(shipping).minus(discount);
+        this.pricingBasis = PricingBasis.POLICIES;
+        this.couponCode = couponCode;
     }
     
     public void markAsProcessing() {
@@ -92,6 +115,18 @@ public class Order {
     }
 
     public enum OrderStatus {
-        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED
+        PENDING, PROCESSING, SHIPPED, DELIVERED, CANCELLED;
+
+        // 종료 상태만 archive 로 옮겨질 수 있음
+        public boolean isClosed() {
+            return this == DELIVERED || this == CANCELLED;
+        }
+    }
+
+    public enum PricingBasis {
+        // 항목 소계의 합
+        ITEMS,
+        // 항목 합계 + 배송비 - 할인 (couponCode 포함)
+        POLICIES
     }
 }
\ No newline at end of file
@@ -1,13 +1,12 @@
 package com.seowon.coding.domain.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-
 @Entity
 @Data
 @Builder
@@ -29,10 +28,15 @@ public class OrderItem {
     
     private int quantity;
     
-    private BigDecimal price; // Price at the time of order
+    private Money price; // Price at the time of order
     
     // Business logic
-    public BigDecimal getSubtotal() {
-        return price.multiply(BigDecimal.valueOf(quantity));
+    public Money getSubtotal() {
+        return price.times(quantity);
+    }
+
+    @JsonIgnore
+    public long getSubtotalMinorUnits() {
+        return Math.multiplyExact(price.getMinorUnits(), (long) quantity);
     }
 }
\ No newline at end of file
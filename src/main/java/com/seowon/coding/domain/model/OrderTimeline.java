@@ -0,0 +1,41 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객별 주문 요약 (주문 목록 화면용 비정규화 테이블). 쓰기/조회는 OrderTimelineJdbcRepository 로 처리하며 엔티티는 스키마 정의용
+ * - archive 로 옮겨진 주문도 남아 있으므로 고객의 전체 주문 이력을 이 테이블만으로 조회
+ */
+@Entity
+@Immutable
+@Table(name = "order_timeline",
+        indexes = @Index(name = "idx_order_timeline_customer_date", columnList = "customer_email, order_date DESC, order_id DESC"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrderTimeline {
+
+    // 주문은 삭제/archive 될 수 있으므로 FK 없이 id 만 보관
+    @Id
+    private Long orderId;
+
+    @Column(nullable = false)
+    private String customerEmail;
+
+    @Column(nullable = false)
+    private LocalDateTime orderDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Order.OrderStatus status;
+
+    private Money totalAmount;
+
+    @Column(nullable = false)
+    private int itemCount;
+}
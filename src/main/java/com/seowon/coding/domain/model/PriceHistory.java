@@ -0,0 +1,42 @@
+package com.seowon.coding.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가격 변경 이력 (append-only). 쓰기/조회는 PriceHistoryJdbcRepository 로 JDBC batch 처리하며 엔티티는 스키마 정의용
+ */
+@Entity
+@Immutable
+@Table(name = "price_history", indexes = {
+        @Index(name = "idx_price_history_product_changed_at", columnList = "product_id, changed_at"),
+        @Index(name = "idx_price_history_batch", columnList = "batch_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 상품은 삭제될 수 있으므로 FK 없이 id 만 보관
+    @Column(nullable = false)
+    private Long productId;
+
+    // 일괄 변경 단위 (단건 변경은 null)
+    @Column(length = 36)
+    private String batchId;
+
+    private Money oldPrice;
+
+    private Money newPrice;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
@@ -24,11 +24,18 @@ public class ProcessingStatus {
     private int total;
     private int processed;
 
+    // 마지막으로 커밋된 청크의 마지막 주문 id (재개 시 커서)
+    private Long lastProcessedId;
+
+    private int skipped;
+
     @Enumerated(EnumType.STRING)
     private Status status;
 
     private LocalDateTime updatedAt;
 
+    private String lastError;
+
     public enum Status {
         RUNNING, COMPLETED, FAILED
     }
@@ -45,6 +52,27 @@ public class ProcessingStatus {
         this.updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 청크 작업과 같은 트랜잭션에서 호출되어 작업 결과와 함께 커밋
+     */
+    public void checkpoint(Long lastProcessedId, int processedInChunk) {
+        this.lastProcessedId = lastProcessedId;
+        this.processed += processedInChunk;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void recordSkip(Long orderId) {
+        this.skipped++;
+        checkpoint(orderId, 1);
+    }
+
+    /**
+     * 완료되지 않은 작업. 실제 재개는 ProcessService.claimForResumeRequiresNew 로 선점한 경우에만
+     */
+    public boolean isResumable() {
+        return status != Status.COMPLETED;
+    }
+
     public void markCompleted() {
         this.status = Status.COMPLETED;
         this.updatedAt = LocalDateTime.now();
@@ -54,4 +82,9 @@ public class ProcessingStatus {
         this.status = Status.FAILED;
         this.updatedAt = LocalDateTime.now();
     }
+
+    public void markFailed(String error) {
+        markFailed();
+        this.lastError = error;
+    }
 }
@@ -1,9 +1,6 @@
 package com.seowon.coding.domain.model;
 
-import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
-import jakarta.persistence.Id;
+import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
@@ -11,10 +8,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_product_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_product_category_updated_at", columnList = "category, updated_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -31,11 +31,20 @@ public class Product {
     private String description;
     
     @Positive(message = "Price must be positive")
-    private BigDecimal price;
+    private Money price;
     
     private int stockQuantity;
     
     private String category;
+
+    // 변경 감지용 (ETag / Last-Modified)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = LocalDateTime.now();
+    }
     
     // Business logic
     public boolean isInStock() {
@@ -56,7 +65,7 @@ public class Product {
         stockQuantity += quantity;
     }
 
-    public void changePrice(BigDecimal newPrice) {
-        this.price = newPrice.setScale(2, RoundingMode.HALF_EVEN);
+    public void changePrice(Money newPrice) {
+        this.price = newPrice;
     }
 }
\ No newline at end of file
@@ -1,7 +1,5 @@
 package com.seowon.coding.domain.model;
 
-import java.math.BigDecimal;
-
 public interface ShippingPolicy {
-    BigDecimal calculateShipping(Order order);
+    Money calculateShipping(Order order);
 }
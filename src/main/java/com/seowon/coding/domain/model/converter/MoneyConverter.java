@@ -0,0 +1,24 @@
+package com.seowon.coding.domain.model.converter;
+
+import com.seowon.coding.domain.model.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Money <-> NUMERIC(38, 2) 컬럼 매핑 (기존 스키마 유지, 통화는 Money.DEFAULT_CURRENCY 고정)
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal value) {
+        return value == null ? null : Money.of(value);
+    }
+}
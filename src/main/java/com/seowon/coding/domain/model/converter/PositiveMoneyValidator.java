@@ -0,0 +1,17 @@
+package com.seowon.coding.domain.model.converter;
+
+import com.seowon.coding.domain.model.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * {@link Positive} 제약을 Money 타입에도 적용 (META-INF/services 로 등록)
+ */
+public class PositiveMoneyValidator implements ConstraintValidator<Positive, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.isPositive();
+    }
+}
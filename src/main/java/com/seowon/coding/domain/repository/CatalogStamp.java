@@ -0,0 +1,22 @@
+package com.seowon.coding.domain.repository;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 상품 목록의 변경 여부를 판단하기 위한 요약 (건수 + 마지막 변경 시각)
+ * - 수정/등록 시 lastModified 가 증가하고, 삭제 시 count 가 줄어드므로 목록이 바뀌면 ETag 도 바뀜
+ */
+public record CatalogStamp(Long count, LocalDateTime lastModified) {
+
+    public String etag() {
+        long micros = lastModified == null ? 0
+                : lastModified.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + lastModified.getNano() / 1_000;
+        return "W/\"" + Long.toHexString(count == null ? 0 : count) + "-" + Long.toHexString(micros) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified == null ? -1 : lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,44 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.CheckoutTicket;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface CheckoutTicketRepository extends JpaRepository<CheckoutTicket, String> {
+
+    /**
+     * 이 노드가 접수했거나, 다른 노드가 접수한 뒤 staleBefore 이후로 갱신이 없는(노드 장애로 추정) 미처리 접수표
+     */
+    @Query("select t.id from CheckoutTicket t " +
+            "where t.status = com.seowon.coding.domain.model.CheckoutTicket.Status.ACCEPTED " +
+            "and (t.owner = :owner or t.updatedAt < :staleBefore) " +
+            "order by t.createdAt")
+    List<String> findRecoverable(@Param("owner") String owner, @Param("staleBefore") LocalDateTime staleBefore, Pageable pageable);
+
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CheckoutTicket t set t.owner = :owner, t.updatedAt = :now " +
+            "where t.id = :id " +
+            "and t.status = com.seowon.coding.domain.model.CheckoutTicket.Status.ACCEPTED " +
+            "and (t.owner = :owner or t.updatedAt < :staleBefore)")
+    int claim(@Param("id") String id, @Param("owner") String owner,
+              @Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+
+    /**
+     * 주문 저장과 같은 트랜잭션에서 호출. 다른 노드가 가져갔거나 이미 처리된 경우 0 을 반환 (fencing)
+     */
+    @Transactional
+    @Modifying(flushAutomatically = true)
+    @Query("update CheckoutTicket t set t.status = :status, t.orderId = :orderId, t.error = :error, t.updatedAt = :now " +
+            "where t.id = :id and t.owner = :owner " +
+            "and t.status = com.seowon.coding.domain.model.CheckoutTicket.Status.ACCEPTED")
+    int finish(@Param("id") String id, @Param("owner") String owner, @Param("status") CheckoutTicket.Status status,
+               @Param("orderId") Long orderId, @Param("error") String error, @Param("now") LocalDateTime now);
+}
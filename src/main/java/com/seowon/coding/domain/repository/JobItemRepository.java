@@ -0,0 +1,22 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.JobItem;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface JobItemRepository extends JpaRepository<JobItem, JobItem.Key>, JobItemRepositoryCustom {
+
+    long countByJobId(String jobId);
+
+    @Query("select i.orderId from JobItem i where i.jobId = :jobId and i.orderId > :cursor order by i.orderId")
+    List<Long> findNextOrderIds(@Param("jobId") String jobId, @Param("cursor") Long cursor, Pageable pageable);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update JobItem i set i.skipped = true where i.jobId = :jobId and i.orderId = :orderId")
+    int markSkipped(@Param("jobId") String jobId, @Param("orderId") Long orderId);
+}
@@ -0,0 +1,14 @@
+package com.seowon.coding.domain.repository;
+
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface JobItemRepositoryCustom {
+
+    /**
+     * JDBC batch 로 대상 주문 id 를 일괄 저장
+     */
+    @Transactional
+    void insertAll(String jobId, List<Long> orderIds);
+}
@@ -0,0 +1,26 @@
+package com.seowon.coding.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+public class JobItemRepositoryImpl implements JobItemRepositoryCustom {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(String jobId, List<Long> orderIds) {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO job_item (job_id, order_id, skipped) VALUES (?, ?, FALSE)",
+                orderIds,
+                BATCH_SIZE,
+                (ps, orderId) -> {
+                    ps.setString(1, jobId);
+                    ps.setLong(2, orderId);
+                });
+    }
+}
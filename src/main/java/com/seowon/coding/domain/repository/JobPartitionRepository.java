@@ -0,0 +1,62 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.JobPartition;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobPartitionRepository extends JpaRepository<JobPartition, Long> {
+
+    boolean existsByJobId(String jobId);
+
+    long countByJobIdAndStatusNot(String jobId, JobPartition.Status status);
+
+    @Query("select p from JobPartition p " +
+            "where p.jobId = :jobId " +
+            "and (p.status = com.seowon.coding.domain.model.JobPartition.Status.PENDING " +
+            "  or (p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED and p.leaseUntil < :now)) " +
+            "order by p.partitionNo")
+    List<JobPartition> findClaimable(@Param("jobId") String jobId, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 조건부 UPDATE 로 claim. 동시에 여러 노드가 시도해도 한 노드만 1 을 반환
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobPartition p " +
+            "set p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED, " +
+            "    p.owner = :owner, p.leaseUntil = :leaseUntil, p.heartbeatAt = :now " +
+            "where p.id = :id " +
+            "and (p.status = com.seowon.coding.domain.model.JobPartition.Status.PENDING " +
+            "  or (p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED and p.leaseUntil < :now))")
+    int claim(@Param("id") Long id, @Param("owner") String owner,
+              @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobPartition p set p.leaseUntil = :leaseUntil, p.heartbeatAt = :now " +
+            "where p.id = :id and p.owner = :owner " +
+            "and p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED")
+    int renewLease(@Param("id") Long id, @Param("owner") String owner,
+                   @Param("leaseUntil") LocalDateTime leaseUntil, @Param("now") LocalDateTime now);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobPartition p set p.status = com.seowon.coding.domain.model.JobPartition.Status.DONE, p.leaseUntil = null " +
+            "where p.id = :id and p.owner = :owner " +
+            "and p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED")
+    int markDone(@Param("id") Long id, @Param("owner") String owner);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update JobPartition p set p.status = com.seowon.coding.domain.model.JobPartition.Status.FAILED, " +
+            "p.leaseUntil = null, p.lastError = :error " +
+            "where p.id = :id and p.owner = :owner " +
+            "and p.status = com.seowon.coding.domain.model.JobPartition.Status.CLAIMED")
+    int markFailed(@Param("id") Long id, @Param("owner") String owner, @Param("error") String error);
+
+    @Query("select coalesce(sum(p.itemCount), 0) from JobPartition p " +
+            "where p.jobId = :jobId and p.status = com.seowon.coding.domain.model.JobPartition.Status.DONE")
+    long sumDoneItems(@Param("jobId") String jobId);
+}
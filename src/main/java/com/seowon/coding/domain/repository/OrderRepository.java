@@ -1,18 +1,45 @@
 package com.seowon.coding.domain.repository;
 
 import com.seowon.coding.domain.model.Order;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
-    
-    List<Order> findByCustomerEmail(String email);
-    
-    List<Order> findByStatus(Order.OrderStatus status);
-    
-    List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
-}
\ No newline at end of file
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderRepositoryCustom {
+
+    // 응답 직렬화용: 항목/상품을 한 번에 조회 (open-in-view 없이도 items 를 항상 기록할 수 있도록)
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    @Query("select o from Order o")
+    List<Order> findAllWithItems();
+
+    @EntityGraph(attributePaths = {"items", "items.product"})
+    @Query("select o from Order o where o.id = :id")
+    Optional<Order> findWithItemsById(@Param("id") Long id);
+
+    @Query("select o.id from Order o " +
+            "where o.status = :status and o.orderDate < :before and o.id > :afterId " +
+            "order by o.id")
+    List<Long> findIdsByStatusAndOrderDateBefore(@Param("status") Order.OrderStatus status,
+                                                 @Param("before") LocalDateTime before,
+                                                 @Param("afterId") long afterId,
+                                                 Pageable pageable);
+
+    // 일괄 삭제: 자식(order_item) 먼저. 영속성 컨텍스트에 남은 엔티티는 clear 로 무효화
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from OrderItem i where i.order.id in :orderIds")
+    int deleteItemsByOrderIds(@Param("orderIds") Collection<Long> orderIds);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Order o where o.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,33 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Order;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * archive 를 포함한 주문 조회 (orderDate, id 순)
+ * - 종료 상태(DELIVERED/CANCELLED)가 아닌 상태 조건이면 archive 테이블은 조회하지 않음
+ * - 기간 조건이 있으면 조회 구간이 보관 기준일(app.archive.after-days) 이전을 포함할 때만 archive 테이블도 조회
+ * - 기간 조건이 없으면 항상 archive 테이블도 조회
+ * - archive 된 주문은 archived=true 인 비영속 사본이며 상품은 archive 시점의 id/이름만 담은 값. save 하면 IllegalStateException
+ * - findById/findAll/findAllWithItems 등 JpaRepository 기본 조회는 orders 테이블만 조회
+ */
+public interface OrderRepositoryCustom {
+
+    List<Order> findByCustomerEmail(String email);
+
+    List<Order> findByStatus(Order.OrderStatus status);
+
+    List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end);
+
+    List<Order> findByCustomerEmailAndOrderDateBetween(String email, LocalDateTime start, LocalDateTime end);
+
+    List<Order> findByStatusAndOrderDateBetween(Order.OrderStatus status, LocalDateTime start, LocalDateTime end);
+
+    // archive 로 옮겨진 주문 (orders 에 없는 id 의 상세 조회용)
+    Optional<Order> findArchivedById(Long id);
+
+    <S extends Order> S save(S order);
+}
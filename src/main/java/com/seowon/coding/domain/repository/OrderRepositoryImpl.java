@@ -0,0 +1,131 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.ArchivedOrder;
+import com.seowon.coding.domain.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    // 두 경로 모두 같은 순서로 반환
+    private static final String ORDER_BY = " order by o.orderDate, o.id";
+    private static final Comparator<Order> ORDERING =
+            Comparator.comparing(Order::getOrderDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(Order::getId);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${app.archive.after-days:365}")
+    private long archiveAfterDays;
+
+    @Override
+    public List<Order> findByCustomerEmail(String email) {
+        return find("o.customerEmail = :value", email, null, null);
+    }
+
+    @Override
+    public List<Order> findByStatus(Order.OrderStatus status) {
+        return find("o.status = :value", status, null, null);
+    }
+
+    @Override
+    public List<Order> findByOrderDateBetween(LocalDateTime start, LocalDateTime end) {
+        return find(null, null, start, end);
+    }
+
+    @Override
+    public List<Order> findByCustomerEmailAndOrderDateBetween(String email, LocalDateTime start, LocalDateTime end) {
+        return find("o.customerEmail = :value", email, start, end);
+    }
+
+    @Override
+    public List<Order> findByStatusAndOrderDateBetween(Order.OrderStatus status, LocalDateTime start, LocalDateTime end) {
+        return find("o.status = :value", status, start, end);
+    }
+
+    @Override
+    public Optional<Order> findArchivedById(Long id) {
+        return entityManager.createQuery(
+                        "select distinct o from ArchivedOrder o left join fetch o.items where o.id = :id", ArchivedOrder.class)
+                .setParameter("id", id)
+                .getResultStream()
+                .findFirst()
+                .map(ArchivedOrder::toOrder);
+    }
+
+    /**
+     * archive 사본은 같은 id 의 주문이 orders 에 없으므로 merge 하면 새 주문으로 insert 되어 버림 -> 거부
+     */
+    @Override
+    @Transactional
+    public <S extends Order> S save(S order) {
+        if (order.isArchived()) {
+            throw new IllegalStateException("Archived order is read-only: " + order.getId());
+        }
+        if (order.getId() == null) {
+            entityManager.persist(order);
+            return order;
+        }
+        return entityManager.merge(order);
+    }
+
+    /**
+     * 종료 상태가 아닌 상태로 찾으면 archive 에 있을 수 없으므로 조회하지 않음
+     * start/end 가 없으면 그 외에는 항상 archive 도 조회 (이메일 조회는 archive 의 (customer_email, order_date) 인덱스 사용)
+     */
+    private List<Order> find(String condition, Object value, LocalDateTime start, LocalDateTime end) {
+        String where = where(condition, start != null);
+        TypedQuery<Order> hot = entityManager.createQuery("select o from Order o" + where + ORDER_BY, Order.class);
+        List<Order> result = new ArrayList<>(bind(hot, value, start, end).getResultList());
+
+        boolean archivable = !(value instanceof Order.OrderStatus status) || status.isClosed();
+        if (archivable && (start == null || start.isBefore(archiveHorizon()))) {
+            TypedQuery<ArchivedOrder> cold = entityManager.createQuery(
+                    "select distinct o from ArchivedOrder o left join fetch o.items" + where + ORDER_BY, ArchivedOrder.class);
+            List<ArchivedOrder> archived = bind(cold, value, start, end).getResultList();
+            if (!archived.isEmpty()) {
+                archived.forEach(order -> result.add(order.toOrder()));
+                result.sort(ORDERING);
+            }
+        }
+        return result;
+    }
+
+    private static String where(String condition, boolean dated) {
+        List<String> predicates = new ArrayList<>(2);
+        if (dated) {
+            predicates.add("o.orderDate between :start and :end");
+        }
+        if (condition != null) {
+            predicates.add(condition);
+        }
+        return predicates.isEmpty() ? "" : " where " + String.join(" and ", predicates);
+    }
+
+    /**
+     * 이 시각보다 오래된 종료 주문은 archive 로 옮겨졌을 수 있음
+     */
+    private LocalDateTime archiveHorizon() {
+        return LocalDateTime.now().minusDays(archiveAfterDays);
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, Object value, LocalDateTime start, LocalDateTime end) {
+        if (start != null) {
+            query.setParameter("start", start).setParameter("end", end);
+        }
+        if (value != null) {
+            query.setParameter("value", value);
+        }
+        return query;
+    }
+}
@@ -0,0 +1,17 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+
+import java.time.LocalDateTime;
+
+/**
+ * 고객 주문 목록의 한 줄. itemCount 가 null 이면 갱신 시 기존 값을 유지
+ */
+public record OrderTimelineEntry(long orderId,
+                                 String customerEmail,
+                                 LocalDateTime orderDate,
+                                 Order.OrderStatus status,
+                                 Money totalAmount,
+                                 Integer itemCount) {
+}
@@ -0,0 +1,160 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 고객별 주문 요약(order_timeline)의 JDBC 접근
+ * - 호출한 트랜잭션에 참여하므로 주문 변경과 함께 커밋/롤백
+ * - 조회는 (customer_email, order_date DESC, order_id DESC) 인덱스 range scan 한 번으로 keyset 페이지를 읽음
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderTimelineJdbcRepository {
+
+    // itemCount 를 모르면 order_item 에서 계산
+    private static final String INSERT =
+            "INSERT INTO order_timeline (order_id, customer_email, order_date, status, total_amount, item_count) " +
+                    "VALUES (?, ?, ?, ?, ?, COALESCE(?, (SELECT COUNT(*) FROM order_item WHERE order_id = ?)))";
+    private static final String UPDATE =
+            "UPDATE order_timeline SET customer_email = ?, order_date = ?, status = ?, total_amount = ?, " +
+                    "item_count = COALESCE(?, item_count) WHERE order_id = ?";
+    private static final String SELECT_COLUMNS =
+            "SELECT order_id, customer_email, order_date, status, total_amount, item_count FROM order_timeline ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void insert(List<OrderTimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT, entries, entries.size(), (ps, entry) -> {
+            ps.setLong(1, entry.orderId());
+            ps.setString(2, entry.customerEmail());
+            ps.setTimestamp(3, Timestamp.valueOf(entry.orderDate()));
+            ps.setString(4, entry.status() == null ? null : entry.status().name());
+            ps.setBigDecimal(5, entry.totalAmount() == null ? null : entry.totalAmount().toBigDecimal());
+            if (entry.itemCount() == null) {
+                ps.setNull(6, Types.INTEGER);
+            } else {
+                ps.setInt(6, entry.itemCount());
+            }
+            ps.setLong(7, entry.orderId());
+        });
+    }
+
+    /**
+     * 있으면 갱신, 없으면(이력 적재 이전 주문 등) 추가
+     */
+    public void upsert(List<OrderTimelineEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE, entries, entries.size(), (ps, entry) -> {
+            ps.setString(1, entry.customerEmail());
+            ps.setTimestamp(2, Timestamp.valueOf(entry.orderDate()));
+            ps.setString(3, entry.status() == null ? null : entry.status().name());
+            ps.setBigDecimal(4, entry.totalAmount() == null ? null : entry.totalAmount().toBigDecimal());
+            if (entry.itemCount() == null) {
+                ps.setNull(5, Types.INTEGER);
+            } else {
+                ps.setInt(5, entry.itemCount());
+            }
+            ps.setLong(6, entry.orderId());
+        });
+        List<OrderTimelineEntry> missing = new ArrayList<>();
+        for (int i = 0; i < entries.size(); i++) {
+            if (counts[0][i] == 0) {
+                missing.add(entries.get(i));
+            }
+        }
+        insert(missing);
+    }
+
+    public int updateStatus(Collection<Long> orderIds, Order.OrderStatus status) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        List<Object> args = new ArrayList<>(orderIds.size() + 1);
+        args.add(status.name());
+        args.addAll(orderIds);
+        return jdbcTemplate.update("UPDATE order_timeline SET status = ? WHERE order_id IN (" + placeholders(orderIds.size()) + ")",
+                args.toArray());
+    }
+
+    public void updateTotals(Map<Long, Money> totals) {
+        if (totals.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Money>> entries = new ArrayList<>(totals.entrySet());
+        jdbcTemplate.batchUpdate("UPDATE order_timeline SET total_amount = ? WHERE order_id = ?",
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setBigDecimal(1, entry.getValue() == null ? null : entry.getValue().toBigDecimal());
+                    ps.setLong(2, entry.getKey());
+                });
+    }
+
+    public int deleteByOrderIds(Collection<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update("DELETE FROM order_timeline WHERE order_id IN (" + placeholders(orderIds.size()) + ")",
+                orderIds.toArray());
+    }
+
+    /**
+     * 최신 주문부터 limit 건. before 가 있으면 (beforeDate, beforeId) 보다 이전 주문만 (keyset)
+     *
+     * @throws IllegalArgumentException beforeDate/beforeId 중 하나만 주어진 경우
+     */
+    public List<OrderTimelineEntry> findByCustomerEmail(String customerEmail, LocalDateTime beforeDate, Long beforeId, int limit) {
+        if ((beforeDate == null) != (beforeId == null)) {
+            throw new IllegalArgumentException("beforeDate and beforeId must be given together");
+        }
+        if (beforeDate == null) {
+            return jdbcTemplate.query(SELECT_COLUMNS + "WHERE customer_email = ? ORDER BY order_date DESC, order_id DESC LIMIT ?",
+                    (rs, rowNum) -> map(rs), customerEmail, limit);
+        }
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE customer_email = ? AND (order_date, order_id) < (?, ?) " +
+                        "ORDER BY order_date DESC, order_id DESC LIMIT ?",
+                (rs, rowNum) -> map(rs), customerEmail, Timestamp.valueOf(beforeDate), beforeId, limit);
+    }
+
+    /**
+     * order_timeline 에 없는 주문을 한 번에 적재 (JDBC 로 직접 넣은 주문 등)
+     *
+     * @return 적재한 주문 수
+     */
+    public int backfill() {
+        return jdbcTemplate.update(
+                "INSERT INTO order_timeline (order_id, customer_email, order_date, status, total_amount, item_count) " +
+                        "SELECT o.id, o.customer_email, COALESCE(o.order_date, CURRENT_TIMESTAMP(6)), o.status, o.total_amount, " +
+                        "(SELECT COUNT(*) FROM order_item i WHERE i.order_id = o.id) " +
+                        "FROM orders o WHERE o.customer_email IS NOT NULL " +
+                        "AND NOT EXISTS (SELECT 1 FROM order_timeline t WHERE t.order_id = o.id)");
+    }
+
+    private static OrderTimelineEntry map(ResultSet rs) throws SQLException {
+        String status = rs.getString("status");
+        BigDecimal totalAmount = rs.getBigDecimal("total_amount");
+        return new OrderTimelineEntry(
+                rs.getLong("order_id"),
+                rs.getString("customer_email"),
+                rs.getTimestamp("order_date").toLocalDateTime(),
+                status == null ? null : Order.OrderStatus.valueOf(status),
+                totalAmount == null ? null : Money.of(totalAmount),
+                rs.getInt("item_count"));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+}
@@ -0,0 +1,9 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Money;
+
+/**
+ * 이력에 기록할 가격 변경 한 건
+ */
+public record PriceChange(long productId, Money oldPrice, Money newPrice) {
+}
@@ -0,0 +1,13 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Money;
+
+import java.time.LocalDateTime;
+
+public record PriceHistoryEntry(long id,
+                                long productId,
+                                String batchId,
+                                Money oldPrice,
+                                Money newPrice,
+                                LocalDateTime changedAt) {
+}
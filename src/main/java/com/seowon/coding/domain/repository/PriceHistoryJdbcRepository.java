@@ -0,0 +1,140 @@
+package com.seowon.coding.domain.repository;
+
+import com.seowon.coding.domain.model.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 가격 변경과 가격 이력(price_history)의 JDBC 접근
+ * - 이력은 append-only 이며 JDBC batch 로 기록 (호출한 트랜잭션에 참여하므로 가격 변경과 함께 커밋/롤백)
+ * - 상품별 이력은 (product_id, changed_at) 인덱스 range scan 으로 시간순 조회
+ */
+@Repository
+@RequiredArgsConstructor
+public class PriceHistoryJdbcRepository {
+
+    private static final String INSERT =
+            "INSERT INTO price_history (product_id, batch_id, old_price, new_price, changed_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String SELECT_COLUMNS =
+            "SELECT id, product_id, batch_id, old_price, new_price, changed_at FROM price_history ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(List<PriceChange> changes, String batchId, LocalDateTime changedAt) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Timestamp timestamp = Timestamp.valueOf(changedAt);
+        jdbcTemplate.batchUpdate(INSERT, changes, changes.size(), (ps, change) -> {
+            ps.setLong(1, change.productId());
+            if (batchId == null) {
+                ps.setNull(2, Types.VARCHAR);
+            } else {
+                ps.setString(2, batchId);
+            }
+            ps.setBigDecimal(3, change.oldPrice() == null ? null : change.oldPrice().toBigDecimal());
+            ps.setBigDecimal(4, change.newPrice() == null ? null : change.newPrice().toBigDecimal());
+            ps.setTimestamp(5, timestamp);
+        });
+    }
+
+    public List<PriceHistoryEntry> findByProductId(long productId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE product_id = ? ORDER BY changed_at, id",
+                (rs, rowNum) -> map(rs), productId);
+    }
+
+    /**
+     * at 이전(포함) 마지막 변경. (product_id, changed_at) 인덱스로 한 행만 읽음 (같은 시각이면 나중에 기록된 것)
+     */
+    public Optional<PriceHistoryEntry> findLatestAtOrBefore(long productId, LocalDateTime at) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE product_id = ? AND changed_at <= ? ORDER BY changed_at DESC, id DESC LIMIT 1",
+                (rs, rowNum) -> map(rs), productId, Timestamp.valueOf(at)).stream().findFirst();
+    }
+
+    public Optional<PriceHistoryEntry> findEarliest(long productId) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE product_id = ? ORDER BY changed_at, id LIMIT 1",
+                (rs, rowNum) -> map(rs), productId).stream().findFirst();
+    }
+
+    /**
+     * 일괄 변경 이력을 최신(id 역순)부터 limit 건씩 조회 (keyset)
+     */
+    public List<PriceHistoryEntry> findByBatchIdNewestFirst(String batchId, long beforeId, int limit) {
+        return jdbcTemplate.query(SELECT_COLUMNS + "WHERE batch_id = ? AND id < ? ORDER BY id DESC LIMIT ?",
+                (rs, rowNum) -> map(rs), batchId, beforeId, limit);
+    }
+
+    /**
+     * 현재 가격을 잠그고 조회 (가격 변경 전 값을 이력에 남기기 위함). 존재하지 않는 id 는 결과에 없음
+     */
+    public Map<Long, Money> lockPrices(Collection<Long> productIds) {
+        Map<Long, Money> prices = new HashMap<>(productIds.size() * 2);
+        if (productIds.isEmpty()) {
+            return prices;
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        jdbcTemplate.query("SELECT id, price FROM product WHERE id IN (" + placeholders + ") FOR UPDATE",
+                (RowCallbackHandler) rs -> {
+                    BigDecimal price = rs.getBigDecimal(2);
+                    prices.put(rs.getLong(1), price == null ? null : Money.of(price));
+                },
+                productIds.toArray());
+        return prices;
+    }
+
+    public void updatePrices(List<PriceChange> changes, LocalDateTime changedAt) {
+        Timestamp timestamp = Timestamp.valueOf(changedAt);
+        jdbcTemplate.batchUpdate("UPDATE product SET price = ?, updated_at = ? WHERE id = ?",
+                changes, changes.size(), (ps, change) -> {
+                    ps.setBigDecimal(1, change.newPrice().toBigDecimal());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, change.productId());
+                });
+    }
+
+    /**
+     * 가격이 아직 expected(oldPrice) 인 상품만 newPrice 로 변경
+     *
+     * @return 변경된 항목
+     */
+    public List<PriceChange> compareAndSetPrices(List<PriceChange> changes, LocalDateTime changedAt) {
+        if (changes.isEmpty()) {
+            return List.of();
+        }
+        Timestamp timestamp = Timestamp.valueOf(changedAt);
+        int[][] counts = jdbcTemplate.batchUpdate(
+                "UPDATE product SET price = ?, updated_at = ? WHERE id = ? AND price = ?",
+                changes, changes.size(), (ps, change) -> {
+                    ps.setBigDecimal(1, change.newPrice().toBigDecimal());
+                    ps.setTimestamp(2, timestamp);
+                    ps.setLong(3, change.productId());
+                    ps.setBigDecimal(4, change.oldPrice().toBigDecimal());
+                });
+        List<PriceChange> applied = new ArrayList<>(changes.size());
+        for (int i = 0; i < changes.size(); i++) {
+            if (counts[0][i] > 0) {
+                applied.add(changes.get(i));
+            }
+        }
+        return applied;
+    }
+
+    private static PriceHistoryEntry map(ResultSet rs) throws SQLException {
+        BigDecimal oldPrice = rs.getBigDecimal("old_price");
+        BigDecimal newPrice = rs.getBigDecimal("new_price");
+        return new PriceHistoryEntry(
+                rs.getLong("id"),
+                rs.getLong("product_id"),
+                rs.getString("batch_id"),
+                oldPrice == null ? null : Money.of(oldPrice),
+                newPrice == null ? null : Money.of(newPrice),
+                rs.getTimestamp("changed_at").toLocalDateTime());
+    }
+}
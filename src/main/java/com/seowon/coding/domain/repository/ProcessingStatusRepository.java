@@ -2,9 +2,27 @@ package com.seowon.coding.domain.repository;
 
 import com.seowon.coding.domain.model.ProcessingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ProcessingStatusRepository extends JpaRepository<ProcessingStatus, Long> {
     Optional<ProcessingStatus> findByJobId(String jobId);
+
+    /**
+     * 재개할 작업을 RUNNING 으로 선점. 실패했거나, RUNNING 이지만 staleBefore 이후 진행이 없는 작업(죽은 노드)만 선점됨
+     *
+     * @return 선점했으면 1
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProcessingStatus p set p.status = com.seowon.coding.domain.model.ProcessingStatus.Status.RUNNING, " +
+            "p.updatedAt = :now " +
+            "where p.jobId = :jobId " +
+            "and (p.status = com.seowon.coding.domain.model.ProcessingStatus.Status.FAILED " +
+            "  or (p.status = com.seowon.coding.domain.model.ProcessingStatus.Status.RUNNING and p.updatedAt < :staleBefore))")
+    int claimForResume(@Param("jobId") String jobId, @Param("now") LocalDateTime now,
+                       @Param("staleBefore") LocalDateTime staleBefore);
 }
@@ -0,0 +1,118 @@
+package com.seowon.coding.domain.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 대용량 카탈로그 동기화를 위한 JDBC 접근
+ * - export: forward-only 커서 + fetchSize 로 한 행씩 콜백 (전체 목록을 메모리에 올리지 않음)
+ * - import: JDBC batch 로 upsert (id 가 있으면 UPDATE, 없으면 INSERT)
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductCatalogJdbcRepository {
+
+    private static final String SELECT_ALL =
+            "SELECT id, name, description, price, stock_quantity, category FROM product ORDER BY id";
+    private static final String UPDATE =
+            "UPDATE product SET name = ?, description = ?, price = ?, stock_quantity = ?, category = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT =
+            "INSERT INTO product (name, description, price, stock_quantity, category, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void streamAll(int fetchSize, Consumer<ProductCatalogRow> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_ALL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(map(rs)));
+    }
+
+    /**
+     * 갱신할 상품의 현재 행을 잠그고 조회 (변경 전 가격/재고를 이력과 감사 로그에 남기기 위함). 존재하지 않는 id 는 결과에 없음
+     */
+    public Map<Long, ProductCatalogRow> lockByIds(Collection<Long> ids) {
+        Map<Long, ProductCatalogRow> rows = new HashMap<>(ids.size() * 2);
+        if (ids.isEmpty()) {
+            return rows;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query("SELECT id, name, description, price, stock_quantity, category FROM product WHERE id IN ("
+                        + placeholders + ") FOR UPDATE",
+                (RowCallbackHandler) rs -> {
+                    ProductCatalogRow row = map(rs);
+                    rows.put(row.id(), row);
+                },
+                ids.toArray());
+        return rows;
+    }
+
+    /**
+     * @return id 가 있지만 존재하지 않아 갱신되지 않은 행
+     */
+    public List<ProductCatalogRow> upsertBatch(List<ProductCatalogRow> rows) {
+        List<ProductCatalogRow> withId = rows.stream().filter(row -> row.id() != null).toList();
+        List<ProductCatalogRow> withoutId = rows.stream().filter(row -> row.id() == null).toList();
+        List<ProductCatalogRow> missing = new ArrayList<>();
+
+        if (!withId.isEmpty()) {
+            int[][] counts = jdbcTemplate.batchUpdate(UPDATE, withId, withId.size(), (ps, row) -> {
+                bind(ps, 1, row);
+                ps.setLong(7, row.id());
+            });
+            for (int i = 0; i < withId.size(); i++) {
+                if (counts[0][i] == 0) {
+                    missing.add(withId.get(i));
+                }
+            }
+        }
+        if (!withoutId.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, withoutId, withoutId.size(), (ps, row) -> bind(ps, 1, row));
+        }
+        return missing;
+    }
+
+    private static void bind(PreparedStatement ps, int from, ProductCatalogRow row) throws SQLException {
+        ps.setString(from, row.name());
+        if (row.description() == null) {
+            ps.setNull(from + 1, Types.VARCHAR);
+        } else {
+            ps.setString(from + 1, row.description());
+        }
+        ps.setBigDecimal(from + 2, row.price());
+        ps.setInt(from + 3, row.stockQuantity());
+        if (row.category() == null) {
+            ps.setNull(from + 4, Types.VARCHAR);
+        } else {
+            ps.setString(from + 4, row.category());
+        }
+        ps.setTimestamp(from + 5, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private static ProductCatalogRow map(ResultSet rs) throws SQLException {
+        return new ProductCatalogRow(
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("description"),
+                rs.getBigDecimal("price"),
+                rs.getInt("stock_quantity"),
+                rs.getString("category"));
+    }
+}
@@ -0,0 +1,15 @@
+package com.seowon.coding.domain.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * 카탈로그 export/import 용 product 행 (JPA 엔티티를 거치지 않음)
+ * id 가 null 이면 신규 등록, 있으면 upsert
+ */
+public record ProductCatalogRow(Long id,
+                                String name,
+                                String description,
+                                BigDecimal price,
+                                int stockQuantity,
+                                String category) {
+}
@@ -1,10 +1,16 @@
 package com.seowon.coding.domain.repository;
 
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -14,4 +20,27 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     List<Product> findByNameContainingIgnoreCase(String name);
     
     List<Product> findByStockQuantityGreaterThan(int minStock);
-}
\ No newline at end of file
+
+    @Query("select new com.seowon.coding.domain.repository.CatalogStamp(count(p), max(p.updatedAt)) from Product p")
+    CatalogStamp findCatalogStamp();
+
+    @Query("select new com.seowon.coding.domain.repository.CatalogStamp(count(p), max(p.updatedAt)) " +
+            "from Product p where p.category = :category")
+    CatalogStamp findCatalogStampByCategory(@Param("category") String category);
+
+    @Query("select p.price from Product p where p.id = :id")
+    Optional<Money> findPriceById(@Param("id") Long id);
+
+    // 상품이 없으면 empty, 있지만 updated_at 이 NULL 이면 lastModified 가 null 인 stamp
+    @Query("select new com.seowon.coding.domain.repository.CatalogStamp(1L, p.updatedAt) from Product p where p.id = :id")
+    Optional<CatalogStamp> findStampById(@Param("id") Long id);
+
+    // 주문 항목이 참조하는 상품은 FK 때문에 삭제할 수 없음. archive 된 항목이 참조하는 상품도 주문 이력 보존을 위해 유지
+    @Query("select i.product.id from OrderItem i where i.product.id in :ids " +
+            "union select a.productId from ArchivedOrderItem a where a.productId in :ids")
+    List<Long> findReferencedIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.id in :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
+}
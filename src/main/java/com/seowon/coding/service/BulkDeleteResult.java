@@ -0,0 +1,10 @@
+package com.seowon.coding.service;
+
+import java.util.List;
+
+/**
+ * @param deleted 삭제된 행 수 (주문은 주문 수, 상품은 상품 수)
+ * @param skipped 삭제하지 못한 id (없는 id 는 포함하지 않음)
+ */
+public record BulkDeleteResult(int deleted, List<Long> skipped) {
+}
@@ -0,0 +1,112 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.inventory.InventoryView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 주문/상품 일괄 삭제
+ * - 엔티티를 읽지 않고 DELETE ... WHERE id IN (...) 을 청크 단위로 실행 (자식 order_item 먼저)
+ * - 청크마다 별도 트랜잭션이므로 중간에 실패해도 이미 삭제된 청크는 유지되고, 같은 요청을 다시 실행하면 나머지만 삭제됨
+ * - 벌크 DELETE 는 엔티티 리스너를 거치지 않으므로 재고 메모리 뷰와 고객 주문 목록(order_timeline)은 직접 갱신
+ * - 주문 삭제 시 재고는 복구하지 않음 (테스트/부정 데이터 정리용)
+ */
+@Slf4j
+@Service
+public class BulkDeleteService {
+
+    private final OrderRepository orderRepository;
+    private final ProductRepository productRepository;
+    private final OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+    private final InventoryView inventoryView;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public BulkDeleteService(OrderRepository orderRepository,
+                             ProductRepository productRepository,
+                             OrderTimelineJdbcRepository orderTimelineJdbcRepository,
+                             InventoryView inventoryView,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.bulk-delete.chunk-size:500}") int chunkSize) {
+        this.orderRepository = orderRepository;
+        this.productRepository = productRepository;
+        this.orderTimelineJdbcRepository = orderTimelineJdbcRepository;
+        this.inventoryView = inventoryView;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public BulkDeleteResult deleteOrders(Collection<Long> orderIds) {
+        int deleted = 0;
+        for (List<Long> chunk : chunks(orderIds)) {
+            deleted += deleteOrderChunk(chunk);
+        }
+        return new BulkDeleteResult(deleted, List.of());
+    }
+
+    public BulkDeleteResult deleteOrders(Order.OrderStatus status, LocalDateTime olderThan) {
+        int deleted = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Long> chunk = orderRepository.findIdsByStatusAndOrderDateBefore(status, olderThan, afterId, PageRequest.of(0, chunkSize));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            deleted += deleteOrderChunk(chunk);
+            afterId = chunk.get(chunk.size() - 1);
+        }
+        log.info("Deleted {} {} orders older than {}", deleted, status, olderThan);
+        return new BulkDeleteResult(deleted, List.of());
+    }
+
+    /**
+     * 주문(archive 포함)에서 참조 중인 상품은 삭제하지 않고 skipped 로 반환
+     */
+    public BulkDeleteResult deleteProducts(Collection<Long> productIds) {
+        int deleted = 0;
+        List<Long> skipped = new ArrayList<>();
+        for (List<Long> chunk : chunks(productIds)) {
+            List<Long> deletable = transactionTemplate.execute(status -> {
+                Set<Long> referenced = new HashSet<>(productRepository.findReferencedIds(chunk));
+                List<Long> ids = chunk.stream().filter(id -> !referenced.contains(id)).toList();
+                skipped.addAll(referenced);
+                if (!ids.isEmpty()) {
+                    productRepository.deleteByIds(ids);
+                }
+                return ids;
+            });
+            deleted += deletable.size();
+            deletable.forEach(inventoryView::remove);
+        }
+        return new BulkDeleteResult(deleted, skipped);
+    }
+
+    private int deleteOrderChunk(List<Long> chunk) {
+        Integer deleted = transactionTemplate.execute(status -> {
+            orderRepository.deleteItemsByOrderIds(chunk);
+            orderTimelineJdbcRepository.deleteByOrderIds(chunk);
+            return orderRepository.deleteByIds(chunk);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private List<List<Long>> chunks(Collection<Long> ids) {
+        List<Long> distinct = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,235 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.JobItemRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 체크포인트 기반으로 재개 가능한 일괄 배송 작업
+ * - 대상 주문 id 를 JobItem 으로 저장하고, id 오름차순 keyset 커서로 청크 단위 처리
+ * - 청크마다 독립 트랜잭션으로 처리 결과와 체크포인트(lastProcessedId)를 함께 커밋
+ * - 실패한 청크는 retryLimit 만큼 재시도 후 한 건씩 처리하여 poison record 를 격리, skipLimit 까지 건너뜀
+ * - 실패/중단된 작업은 resume(jobId) 로 마지막 체크포인트 이후부터 이어서 처리
+ *   재개 전에 작업을 RUNNING 으로 원자적으로 선점하므로 실행 중인 작업은 재개되지 않음
+ *   (RUNNING 이지만 resume-stale-seconds 동안 체크포인트가 없으면 중단된 것으로 보고 선점 허용)
+ * - submit/submitResume 은 검증과 선점만 호출 스레드에서 하고, 실행은 threads 개의 전용 스레드에서 수행 (요청 스레드를 막지 않음)
+ * - submitDistributed 는 여러 노드가 파티션을 나눠 처리하는 OrderService.bulkShipOrdersDistributed 를 같은 스레드에서 실행
+ */
+@Slf4j
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BulkShipJobService {
+
+    private final JobItemRepository jobItemRepository;
+    private final ProcessService processService;
+    private final BulkShipmentWorker bulkShipmentWorker;
+    private final OrderService orderService;
+    private final int chunkSize;
+    private final int retryLimit;
+    private final int skipLimit;
+    private final Duration resumeStaleAfter;
+    private final ExecutorService executor;
+
+    public BulkShipJobService(JobItemRepository jobItemRepository,
+                              ProcessService processService,
+                              BulkShipmentWorker bulkShipmentWorker,
+                              OrderService orderService,
+                              @Value("${app.jobs.chunk-size:500}") int chunkSize,
+                              @Value("${app.jobs.retry-limit:2}") int retryLimit,
+                              @Value("${app.jobs.skip-limit:100}") int skipLimit,
+                              @Value("${app.jobs.resume-stale-seconds:600}") long resumeStaleSeconds,
+                              @Value("${app.jobs.threads:2}") int threads) {
+        this.jobItemRepository = jobItemRepository;
+        this.processService = processService;
+        this.bulkShipmentWorker = bulkShipmentWorker;
+        this.orderService = orderService;
+        this.chunkSize = chunkSize;
+        this.retryLimit = retryLimit;
+        this.skipLimit = skipLimit;
+        this.resumeStaleAfter = Duration.ofSeconds(resumeStaleSeconds);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-ship-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        // 실행 중이던 작업은 체크포인트까지 커밋되어 있고, resume-stale-seconds 이후 resume 가능
+        executor.shutdownNow();
+    }
+
+    public ProcessingStatus start(String jobId, List<Long> orderIds) {
+        prepare(jobId, orderIds);
+        return run(jobId);
+    }
+
+    /**
+     * 작업을 등록하고 전용 스레드에서 실행. 진행 상황은 ProcessService.findStatus 로 조회
+     *
+     * @throws IllegalArgumentException jobId 가 없는 경우
+     * @throws IllegalStateException    같은 jobId 가 이미 있는 경우
+     */
+    public ProcessingStatus submit(String jobId, List<Long> orderIds) {
+        prepare(jobId, orderIds);
+        return runAsync(jobId, () -> run(jobId));
+    }
+
+    /**
+     * 분산 작업에 참여하여 전용 스레드에서 처리. 모든 노드에 같은 jobId/orderIds 로 요청하면 파티션을 나눠 처리함
+     * (다른 노드가 이미 시작한 작업이면 그 작업에 합류)
+     *
+     * @throws IllegalArgumentException jobId 가 없는 경우
+     */
+    public ProcessingStatus submitDistributed(String jobId, List<Long> orderIds) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId required");
+        }
+        List<Long> ids = orderIds == null ? List.of() : orderIds;
+        try {
+            processService.joinJobRequiresNew(jobId, (int) ids.stream().distinct().count());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Job {} already started by another node", jobId);
+        }
+        return runAsync(jobId, () -> orderService.bulkShipOrdersDistributed(jobId, ids));
+    }
+
+    private void prepare(String jobId, List<Long> orderIds) {
+        if (jobId == null || jobId.isBlank()) {
+            throw new IllegalArgumentException("jobId required");
+        }
+        if (processService.findStatus(jobId).isPresent()) {
+            throw new IllegalStateException("Job already exists, use resume: " + jobId);
+        }
+        List<Long> sortedIds = (orderIds == null ? List.<Long>of() : orderIds).stream()
+                .distinct()
+                .sorted()
+                .toList();
+
+        jobItemRepository.insertAll(jobId, sortedIds);
+        processService.startJobRequiresNew(jobId, sortedIds.size());
+    }
+
+    /**
+     * @throws IllegalArgumentException 작업이 없는 경우
+     * @throws IllegalStateException    다른 실행이 진행 중인 경우
+     */
+    public ProcessingStatus resume(String jobId) {
+        ProcessingStatus ps = claim(jobId);
+        return ps.getStatus() == ProcessingStatus.Status.COMPLETED ? ps : run(jobId);
+    }
+
+    /**
+     * resume 과 같지만 선점 후 실행은 전용 스레드에서 수행. 이미 완료된 작업이면 그 상태를 그대로 반환
+     *
+     * @throws IllegalArgumentException 작업이 없는 경우
+     * @throws IllegalStateException    다른 실행이 진행 중인 경우
+     */
+    public ProcessingStatus submitResume(String jobId) {
+        ProcessingStatus ps = claim(jobId);
+        return ps.getStatus() == ProcessingStatus.Status.COMPLETED ? ps : runAsync(jobId, () -> run(jobId));
+    }
+
+    private ProcessingStatus claim(String jobId) {
+        ProcessingStatus ps = processService.findStatus(jobId)
+                .orElseThrow(() -> new IllegalArgumentException("Job not found: " + jobId));
+        if (!ps.isResumable()) {
+            return ps;
+        }
+        if (!processService.claimForResumeRequiresNew(jobId, LocalDateTime.now().minus(resumeStaleAfter))) {
+            ps = processService.findStatus(jobId).orElseThrow();
+            if (!ps.isResumable()) {
+                return ps;
+            }
+            throw new IllegalStateException("Job is already running: " + jobId);
+        }
+        log.info("Resuming job {} after order id {} ({}/{} processed)", jobId, ps.getLastProcessedId(), ps.getProcessed(), ps.getTotal());
+        return ps;
+    }
+
+    private ProcessingStatus runAsync(String jobId, Runnable job) {
+        try {
+            executor.execute(() -> {
+                try {
+                    job.run();
+                } catch (RuntimeException e) {
+                    // 실패는 작업 상태(FAILED)와 원인으로 이미 기록됨
+                    log.debug("Job {} stopped: {}", jobId, e.getMessage());
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            processService.markFailedRequiresNew(jobId, "shutting down");
+            throw new IllegalStateException("Job executor is shut down: " + jobId, e);
+        }
+        return processService.findStatus(jobId).orElseThrow();
+    }
+
+    private ProcessingStatus run(String jobId) {
+        ProcessingStatus ps = processService.findStatus(jobId).orElseThrow();
+        long cursor = ps.getLastProcessedId() == null ? Long.MIN_VALUE : ps.getLastProcessedId();
+        int skipped = ps.getSkipped();
+
+        try {
+            List<Long> chunk;
+            while (!(chunk = jobItemRepository.findNextOrderIds(jobId, cursor, PageRequest.of(0, chunkSize))).isEmpty()) {
+                if (!shipChunkWithRetry(jobId, chunk)) {
+                    skipped = shipOneByOne(jobId, chunk, skipped);
+                }
+                cursor = chunk.get(chunk.size() - 1);
+            }
+        } catch (RuntimeException e) {
+            // 체크포인트까지의 결과는 이미 커밋되어 있으므로 resume 으로 이어서 처리 가능
+            log.error("Job {} failed after order id {}", jobId, cursor, e);
+            processService.markFailedRequiresNew(jobId);
+            throw e;
+        }
+
+        processService.markCompletedRequiresNew(jobId);
+        return processService.findStatus(jobId).orElseThrow();
+    }
+
+    private boolean shipChunkWithRetry(String jobId, List<Long> chunk) {
+        for (int attempt = 0; attempt <= retryLimit; attempt++) {
+            try {
+                bulkShipmentWorker.shipChunk(jobId, chunk);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("Job {} chunk [{}..{}] failed (attempt {}/{}): {}",
+                        jobId, chunk.get(0), chunk.get(chunk.size() - 1), attempt + 1, retryLimit + 1, e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    private int shipOneByOne(String jobId, List<Long> chunk, int skipped) {
+        for (Long orderId : chunk) {
+            try {
+                bulkShipmentWorker.shipChunk(jobId, List.of(orderId));
+            } catch (RuntimeException e) {
+                if (++skipped > skipLimit) {
+                    throw new IllegalStateException("Skip limit exceeded (" + skipLimit + ") for job " + jobId, e);
+                }
+                log.warn("Job {} skipping order {}: {}", jobId, orderId, e.getMessage());
+                bulkShipmentWorker.skip(jobId, orderId);
+            }
+        }
+        return skipped;
+    }
+}
@@ -0,0 +1,65 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.JobPartition;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.JobItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.service.profiling.JobChunkEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일괄 배송 작업의 트랜잭션 단위 처리
+ * - 파티션 하나를 독립 트랜잭션으로 처리. 청크마다 heartbeat 하고, 마지막에 owner 확인 후 DONE 처리
+ * - 재개 가능한 작업의 청크를 처리하고 같은 트랜잭션에서 체크포인트 기록
+ */
+@Service
+@RequiredArgsConstructor
+public class BulkShipmentWorker {
+
+    private static final int HEARTBEAT_CHUNK = 100;
+
+    private final OrderRepository orderRepository;
+    private final JobCoordinator jobCoordinator;
+    private final JobItemRepository jobItemRepository;
+    private final ProcessService processService;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int shipPartition(JobPartition partition, List<Long> orderIds) {
+        for (int from = 0; from < orderIds.size(); from += HEARTBEAT_CHUNK) {
+            List<Long> chunk = orderIds.subList(from, Math.min(from + HEARTBEAT_CHUNK, orderIds.size()));
+            JobChunkEvent event = JobChunkEvent.begin(partition.getJobId(), "partition-chunk");
+            orderRepository.findAllById(chunk).forEach(Order::markAsProcessing);
+
+            if (!jobCoordinator.heartbeat(partition)) {
+                throw new LeaseLostException(partition.getJobId(), partition.getPartitionNo(), jobCoordinator.getNodeId());
+            }
+            event.finish(chunk.size(), chunk.get(0));
+        }
+        jobCoordinator.complete(partition);
+        return orderIds.size();
+    }
+
+    /**
+     * 청크 처리와 체크포인트를 한 트랜잭션으로 커밋. orderIds 는 오름차순이어야 함
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void shipChunk(String jobId, List<Long> orderIds) {
+        JobChunkEvent event = JobChunkEvent.begin(jobId, orderIds.size() == 1 ? "single" : "chunk");
+        orderRepository.findAllById(orderIds).forEach(Order::markAsProcessing);
+        processService.checkpoint(jobId, orderIds.get(orderIds.size() - 1), orderIds.size());
+        event.finish(orderIds.size(), orderIds.get(0));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void skip(String jobId, Long orderId) {
+        JobChunkEvent event = JobChunkEvent.begin(jobId, "skip");
+        jobItemRepository.markSkipped(jobId, orderId);
+        processService.recordSkip(jobId, orderId);
+        event.finish(1, orderId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.JobPartition;
+import com.seowon.coding.domain.repository.JobPartitionRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 여러 노드가 같은 DB 를 공유할 때 일괄 작업 파티션을 lease 기반으로 분배
+ * - claim: 조건부 UPDATE 로 PENDING 또는 lease 만료 파티션을 획득
+ * - heartbeat: 처리 중 lease 연장, 실패 시 다른 노드가 가져간 것
+ * - complete: 작업 트랜잭션 안에서 owner 확인 후 DONE 처리 (fencing)
+ * - fail: 처리 중 오류가 난 파티션을 FAILED 로 기록 (lease 만료 후 재시도되지 않음)
+ */
+@Slf4j
+@Service
+public class JobCoordinator {
+
+    private static final int CLAIM_CANDIDATES = 8;
+    static final int MAX_ERROR_LENGTH = 255;
+
+    private final JobPartitionRepository jobPartitionRepository;
+
+    @Getter
+    private final String nodeId;
+    private final long leaseSeconds;
+    private final int partitionSize;
+
+    public JobCoordinator(JobPartitionRepository jobPartitionRepository,
+                          @Value("${app.jobs.node-id:}") String nodeId,
+                          @Value("${app.jobs.lease-seconds:30}") long leaseSeconds,
+                          @Value("${app.jobs.partition-size:1000}") int partitionSize) {
+        this.jobPartitionRepository = jobPartitionRepository;
+        this.nodeId = nodeId == null || nodeId.isBlank() ? "node-" + UUID.randomUUID() : nodeId;
+        this.leaseSeconds = leaseSeconds;
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * 정렬된 주문 id 목록을 partitionSize 단위의 id 구간으로 나눠 등록.
+     * 이미 등록된 job 이면 무시하며, 동시에 등록한 경우 unique 제약 위반(DataIntegrityViolationException)이 발생하므로 호출측에서 무시
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registerPartitions(String jobId, List<Long> sortedOrderIds) {
+        if (jobPartitionRepository.existsByJobId(jobId) || sortedOrderIds.isEmpty()) {
+            return;
+        }
+
+        List<JobPartition> partitions = new ArrayList<>();
+        for (int from = 0, no = 0; from < sortedOrderIds.size(); from += partitionSize, no++) {
+            int to = Math.min(from + partitionSize, sortedOrderIds.size());
+            partitions.add(JobPartition.builder()
+                    .jobId(jobId)
+                    .partitionNo(no)
+                    .rangeStart(sortedOrderIds.get(from))
+                    .rangeEnd(sortedOrderIds.get(to - 1))
+                    .itemCount(to - from)
+                    .status(JobPartition.Status.PENDING)
+                    .build());
+        }
+        jobPartitionRepository.saveAllAndFlush(partitions);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<JobPartition> claimNext(String jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<JobPartition> candidates = jobPartitionRepository.findClaimable(jobId, now, PageRequest.of(0, CLAIM_CANDIDATES));
+
+        for (JobPartition candidate : candidates) {
+            if (jobPartitionRepository.claim(candidate.getId(), nodeId, now.plusSeconds(leaseSeconds), now) == 1) {
+                if (candidate.getStatus() == JobPartition.Status.CLAIMED) {
+                    log.info("Took over stalled partition: job={}, partition={}, previousOwner={}",
+                            jobId, candidate.getPartitionNo(), candidate.getOwner());
+                }
+                return jobPartitionRepository.findById(candidate.getId());
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * lease 연장. 별도 트랜잭션으로 즉시 커밋되어 다른 노드에서 바로 보임
+     * @return false 이면 lease 를 잃은 것 (다른 노드가 가져감)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean heartbeat(JobPartition partition) {
+        LocalDateTime now = LocalDateTime.now();
+        return jobPartitionRepository.renewLease(partition.getId(), nodeId, now.plusSeconds(leaseSeconds), now) == 1;
+    }
+
+    /**
+     * 파티션 작업 트랜잭션 안에서 호출. owner 가 바뀌었으면 예외로 작업 전체를 롤백
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(JobPartition partition) {
+        if (jobPartitionRepository.markDone(partition.getId(), nodeId) != 1) {
+            throw new LeaseLostException(partition.getJobId(), partition.getPartitionNo(), nodeId);
+        }
+    }
+
+    /**
+     * 별도 트랜잭션으로 FAILED 기록. 이미 lease 를 잃었으면 아무것도 바꾸지 않음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(JobPartition partition, String error) {
+        if (jobPartitionRepository.markFailed(partition.getId(), nodeId, error) != 1) {
+            log.warn("Partition already taken over before marking failed: job={}, partition={}",
+                    partition.getJobId(), partition.getPartitionNo());
+        }
+    }
+
+    static String describe(Throwable cause) {
+        String error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isJobFinished(String jobId) {
+        return jobPartitionRepository.existsByJobId(jobId)
+                && jobPartitionRepository.countByJobIdAndStatusNot(jobId, JobPartition.Status.DONE) == 0;
+    }
+
+    @Transactional(readOnly = true)
+    public long processedCount(String jobId) {
+        return jobPartitionRepository.sumDoneItems(jobId);
+    }
+}
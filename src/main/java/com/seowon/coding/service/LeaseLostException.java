@@ -0,0 +1,11 @@
+package com.seowon.coding.service;
+
+/**
+ * 처리 중인 파티션의 lease 를 다른 노드에 빼앗긴 경우. 진행 중인 파티션 트랜잭션을 롤백시키기 위해 사용
+ */
+public class LeaseLostException extends RuntimeException {
+
+    public LeaseLostException(String jobId, int partitionNo, String owner) {
+        super("Lease lost: job=" + jobId + ", partition=" + partitionNo + ", owner=" + owner);
+    }
+}
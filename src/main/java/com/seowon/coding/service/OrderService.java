@@ -4,16 +4,23 @@ import com.seowon.coding.domain.model.*;
 import com.seowon.coding.domain.repository.OrderRepository;
 import com.seowon.coding.domain.repository.ProcessingStatusRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.profiling.OrderPhaseEvent;
+import com.seowon.coding.service.profiling.PolicyEvaluationEvent;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -25,6 +32,8 @@ public class OrderService {
     private final ShippingPolicy shippingPolicy;
     private final DiscountPolicy discountPolicy;
     private final ProcessService processService;
+    private final JobCoordinator jobCoordinator;
+    private final BulkShipmentWorker bulkShipmentWorker;
 
     @Transactional(readOnly = true)
     public List<Order> getAllOrders() {
@@ -36,12 +45,28 @@ public class OrderService {
         return orderRepository.findById(id);
     }
 
+    /**
+     * 응답으로 직렬화할 주문 (항목/상품 포함). archive 로 옮겨진 주문은 포함하지 않음
+     */
+    @Transactional(readOnly = true)
+    public List<Order> getAllOrdersWithItems() {
+        return orderRepository.findAllWithItems();
+    }
+
+    // orders 에 없으면 archive 로 옮겨진 주문에서 찾음
+    @Transactional(readOnly = true)
+    public Optional<Order> getOrderWithItemsById(Long id) {
+        return orderRepository.findWithItemsById(id).or(() -> orderRepository.findArchivedById(id));
+    }
+
 
     public Order updateOrder(Long id, Order order) {
-        if (!orderRepository.existsById(id)) {
-            throw new RuntimeException("Order not found with id: " + id);
-        }
+        Order existing = orderRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Order not found with id: " + id));
         order.setId(id);
+        // 합계 계산 기준/쿠폰은 요청 본문으로 받지 않으므로 저장된 값을 유지
+        order.setPricingBasis(existing.getPricingBasis());
+        order.setCouponCode(existing.getCouponCode());
         return orderRepository.save(order);
     }
 
@@ -69,10 +94,13 @@ public class OrderService {
                 .orderDate(LocalDateTime.now())
                 .build();
 
+        OrderPhaseEvent loadPhase = OrderPhaseEvent.begin("placeOrder", "loadProducts");
         List<Product> products = productRepository.findAllById(productIds);
         Map<Long, Product> productMap = products.stream()
                 .collect(Collectors.toMap(product -> product.getId(), product -> product));
+        loadPhase.finish(products.size());
 
+        OrderPhaseEvent itemsPhase = OrderPhaseEvent.begin("placeOrder", "decreaseStock");
         for (int index = 0; index < productIds.size(); index++) {
             Long productId = productIds.get(index);
             Integer quantity = quantities.get(index);
@@ -92,8 +120,12 @@ public class OrderService {
 
             order.addItem(orderItem);
         }
+        itemsPhase.finish(productIds.size());
 
-        return orderRepository.save(order);
+        OrderPhaseEvent savePhase = OrderPhaseEvent.begin("placeOrder", "save");
+        Order saved = orderRepository.save(order);
+        savePhase.finish(productIds.size());
+        return saved;
     }
 
 
@@ -131,10 +163,15 @@ public class OrderService {
         }
 
         // 배송비/할인 규칙(리팩토링 대상)
+        PolicyEvaluationEvent policyEvaluation = PolicyEvaluationEvent.begin(shippingPolicy, discountPolicy, couponCode);
         order.recalculateTotalAmount(shippingPolicy, discountPolicy, couponCode);
+        policyEvaluation.finish(order.getTotalAmount().getMinorUnits());
         order.markAsProcessing();
 
-        return orderRepository.save(order);
+        OrderPhaseEvent savePhase = OrderPhaseEvent.begin("checkout", "save");
+        Order saved = orderRepository.save(order);
+        savePhase.finish(productIds.size());
+        return saved;
     }
 
     private void invalidCheck(List<Long> productIds, List<Integer> quantities) {
@@ -175,4 +212,60 @@ public class OrderService {
         processService.markCompletedRequiresNew(jobId);
     }
 
+    /**
+     * 여러 노드에서 동시에 호출해도 안전한 일괄 배송 처리
+     * - 주문 id 를 구간 파티션으로 나눠 DB 에 등록하고, 각 노드는 lease 로 파티션을 claim 하여 처리
+     * - 파티션마다 독립 트랜잭션이므로 실패해도 이미 끝난 파티션은 유지됨. 정지된 파티션은 lease 만료 후 다른 노드가 이어받고,
+     *   처리 중 오류가 난 파티션은 원인과 함께 FAILED 로 기록하고 작업도 FAILED 로 바꾼 뒤 예외를 다시 던짐
+     * - 모든 노드에 같은 orderIds 가 전달된다고 가정 (각 노드는 자신의 목록 중 claim 한 구간에 속한 id 만 처리)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void bulkShipOrdersDistributed(String jobId, List<Long> orderIds) {
+        List<Long> sortedIds = (orderIds == null ? List.<Long>of() : orderIds).stream()
+                .distinct()
+                .sorted()
+                .toList();
+        int total = sortedIds.size();
+
+        try {
+            processService.joinJobRequiresNew(jobId, total);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Job {} already started by another node", jobId);
+        }
+        try {
+            jobCoordinator.registerPartitions(jobId, sortedIds);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Partitions of job {} already registered by another node", jobId);
+        }
+
+        Optional<JobPartition> claimed;
+        while ((claimed = jobCoordinator.claimNext(jobId)).isPresent()) {
+            JobPartition partition = claimed.get();
+            try {
+                bulkShipmentWorker.shipPartition(partition, slice(sortedIds, partition));
+            } catch (LeaseLostException e) {
+                log.warn(e.getMessage());
+                continue;
+            } catch (RuntimeException e) {
+                // 파티션/작업을 FAILED 로 남겨 lease 만료 후 무한 재시도되지 않도록 함
+                String error = JobCoordinator.describe(e);
+                jobCoordinator.fail(partition, error);
+                processService.markFailedRequiresNew(jobId, error);
+                throw e;
+            }
+            processService.updateProgressRequiresNew(jobId, (int) jobCoordinator.processedCount(jobId), total);
+        }
+
+        if (total == 0 || jobCoordinator.isJobFinished(jobId)) {
+            processService.markCompletedRequiresNew(jobId);
+        }
+    }
+
+    private static List<Long> slice(List<Long> sortedIds, JobPartition partition) {
+        int from = Collections.binarySearch(sortedIds, partition.getRangeStart());
+        int to = Collections.binarySearch(sortedIds, partition.getRangeEnd());
+        from = from < 0 ? -from - 1 : from;
+        to = to < 0 ? -to - 1 : to + 1;
+        return from >= to ? List.of() : sortedIds.subList(from, to);
+    }
 }
\ No newline at end of file
@@ -7,6 +7,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class ProcessService {
@@ -21,6 +24,29 @@ public class ProcessService {
         processingStatusRepository.save(ps);
     }
 
+    /**
+     * 분산 작업용: 이미 다른 노드가 시작한 job 이면 상태를 덮어쓰지 않음
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void joinJobRequiresNew(String jobId, int total) {
+        if (processingStatusRepository.findByJobId(jobId).isPresent()) {
+            return;
+        }
+        ProcessingStatus ps = ProcessingStatus.builder().jobId(jobId).build();
+        ps.markRunning(total);
+        processingStatusRepository.saveAndFlush(ps);
+    }
+
+    /**
+     * 재개 전 작업을 원자적으로 선점 (동시에 resume 되어도 한 번만 실행되도록)
+     *
+     * @return 다른 실행이 진행 중이거나 이미 완료되어 선점하지 못하면 false
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean claimForResumeRequiresNew(String jobId, LocalDateTime staleBefore) {
+        return processingStatusRepository.claimForResume(jobId, LocalDateTime.now(), staleBefore) == 1;
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void updateProgressRequiresNew(String jobId, int processed, int total) {
         ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
@@ -37,6 +63,14 @@ public class ProcessService {
         ps.markFailed();
     }
 
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markFailedRequiresNew(String jobId, String error) {
+        ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalStateException("ProcessingStatus not found: " + jobId));
+
+        ps.markFailed(error);
+    }
+
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void markCompletedRequiresNew(String jobId) {
         ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
@@ -44,4 +78,25 @@ public class ProcessService {
 
         ps.markCompleted();
     }
+
+    @Transactional(readOnly = true)
+    public Optional<ProcessingStatus> findStatus(String jobId) {
+        return processingStatusRepository.findByJobId(jobId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void checkpoint(String jobId, Long lastProcessedId, int processedInChunk) {
+        ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalStateException("ProcessingStatus not found: " + jobId));
+
+        ps.checkpoint(lastProcessedId, processedInChunk);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSkip(String jobId, Long orderId) {
+        ProcessingStatus ps = processingStatusRepository.findByJobId(jobId)
+                .orElseThrow(() -> new IllegalStateException("ProcessingStatus not found: " + jobId));
+
+        ps.recordSkip(orderId);
+    }
 }
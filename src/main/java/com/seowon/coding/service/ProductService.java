@@ -1,22 +1,28 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.CatalogStamp;
+import com.seowon.coding.domain.repository.PriceChange;
+import com.seowon.coding.domain.repository.PriceHistoryJdbcRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.pricing.PriceChangeBatch;
+import com.seowon.coding.service.pricing.PriceHistoryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.*;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class ProductService {
-    private static final BigDecimal VAT = new BigDecimal("1.10");
-
     private final ProductRepository productRepository;
+    private final PriceHistoryJdbcRepository priceHistoryJdbcRepository;
+    private final PriceHistoryService priceHistoryService;
 
 
     @Transactional(readOnly = true)
@@ -29,6 +35,21 @@ public class ProductService {
         return productRepository.findById(id);
     }
 
+    /**
+     * 목록 조회 없이 변경 여부만 확인 (category 가 null 이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public CatalogStamp getCatalogStamp(String category) {
+        return category == null
+                ? productRepository.findCatalogStamp()
+                : productRepository.findCatalogStampByCategory(category);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<CatalogStamp> getProductStamp(Long id) {
+        return productRepository.findStampById(id);
+    }
+
     public Product createProduct(Product product) {
         return productRepository.save(product);
     }
@@ -37,6 +58,11 @@ public class ProductService {
         if (!productRepository.existsById(id)) {
             throw new RuntimeException("Product not found with id: " + id);
         }
+        // 가격이 바뀌면 변경 전 가격을 이력에 남김 (같은 트랜잭션)
+        Money oldPrice = priceHistoryJdbcRepository.lockPrices(List.of(id)).get(id);
+        if (!Objects.equals(oldPrice, product.getPrice())) {
+            priceHistoryJdbcRepository.append(List.of(new PriceChange(id, oldPrice, product.getPrice())), null, LocalDateTime.now());
+        }
         product.setId(id);
         return productRepository.save(product);
     }
@@ -59,23 +85,13 @@ public class ProductService {
      * TODO #6 (리펙토링 – Pricing/RefData): 대량 가격 변경 로직을 도메인 친화적으로 리팩토링하세요.
      */
     public void applyBulkPriceChangeBad(List<Long> productIds, BigDecimal percentage, boolean includeTax) {
-        if (productIds == null || productIds.isEmpty()) {
-            throw new IllegalArgumentException("empty productIds");
-        }
-
-        for (Long id : productIds) {
-            Product p = productRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Product not found: " + id));
-
-            BigDecimal base = p.getPrice() == null ? BigDecimal.ZERO : p.getPrice();
-            BigDecimal rate = percentage.movePointLeft(2);
-            BigDecimal changed = base.multiply(BigDecimal.ONE.add(rate));
-
-            if (includeTax) {
-                changed = changed.multiply(VAT); // 하드코딩 VAT 10%, 지역/카테고리별 규칙 미반영
+        // 가격 계산/이력 기록은 PriceHistoryService 에 위임 (현재 트랜잭션에 참여하므로 없는 상품이 있으면 전체 롤백)
+        PriceChangeBatch batch = priceHistoryService.applyBulkPriceChange(productIds, percentage, includeTax);
+        for (Long id : batch.missing()) {
+            // 가격이 없는 상품은 그대로 두고, 존재하지 않는 상품만 오류
+            if (!productRepository.existsById(id)) {
+                throw new IllegalArgumentException("Product not found: " + id);
             }
-
-            p.changePrice(changed);
         }
     }
 }
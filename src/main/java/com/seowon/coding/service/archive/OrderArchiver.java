@@ -0,0 +1,123 @@
+package com.seowon.coding.service.archive;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 종료된 주문(DELIVERED/CANCELLED) 중 app.archive.after-days 보다 오래된 것을 archive 테이블로 이동
+ * - 배치 단위로 커밋하고 배치 사이에 쉬어서(throttle-ms) 운영 트래픽과 락/IO 경쟁을 줄임
+ * - 한 배치 안에서 archive INSERT -> 자식(order_item) DELETE -> orders DELETE 순으로 처리
+ * - 항목은 상품명을 함께 복사하므로 이후 상품이 삭제되어도 archive 조회 결과에 이름/가격이 남음
+ * - 여러 노드가 같은 주문을 옮기려 하면 archive PK 충돌로 한쪽 배치만 롤백되므로 중복 이동은 없음
+ * - 고객 주문 목록(order_timeline)은 archive 된 주문도 그대로 유지하므로 갱신하지 않음
+ */
+@Slf4j
+@Component
+public class OrderArchiver {
+
+    private static final String CLOSED_STATUSES = "('DELIVERED', 'CANCELLED')";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long afterDays;
+    private final int batchSize;
+    private final long throttleMs;
+    private final int maxBatchesPerRun;
+
+    public OrderArchiver(JdbcTemplate jdbcTemplate,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${app.archive.enabled:true}") boolean enabled,
+                         @Value("${app.archive.after-days:365}") long afterDays,
+                         @Value("${app.archive.batch-size:500}") int batchSize,
+                         @Value("${app.archive.throttle-ms:50}") long throttleMs,
+                         @Value("${app.archive.max-batches-per-run:200}") int maxBatchesPerRun) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.afterDays = afterDays;
+        this.batchSize = batchSize;
+        this.throttleMs = throttleMs;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:600000}", initialDelayString = "${app.archive.interval-ms:600000}")
+    public void scheduledRun() {
+        if (enabled) {
+            archive(LocalDateTime.now().minusDays(afterDays));
+        }
+    }
+
+    /**
+     * @return 옮긴 주문 수
+     */
+    public int archive(LocalDateTime cutoff) {
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            } catch (DuplicateKeyException e) {
+                log.debug("Archive batch collided with another node, stopping this run", e);
+                break;
+            }
+            if (moved == null || moved == 0) {
+                break;
+            }
+            total += moved;
+            if (moved < batchSize || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("Archived {} orders older than {}", total, cutoff);
+        }
+        return total;
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM orders WHERE status IN " + CLOSED_STATUSES + " AND order_date < ? ORDER BY id LIMIT ?",
+                Long.class, Timestamp.valueOf(cutoff), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = "(" + String.join(",", Collections.nCopies(ids.size(), "?")) + ")";
+        Object[] args = ids.toArray();
+
+        jdbcTemplate.update(
+                "INSERT INTO orders_archive (id, customer_name, customer_email, status, order_date, total_amount, archived_at) " +
+                        "SELECT id, customer_name, customer_email, status, order_date, total_amount, CURRENT_TIMESTAMP(6) " +
+                        "FROM orders WHERE id IN " + in, args);
+        jdbcTemplate.update(
+                "INSERT INTO order_item_archive (id, order_id, product_id, product_name, quantity, price) " +
+                        "SELECT i.id, i.order_id, i.product_id, p.name, i.quantity, i.price " +
+                        "FROM order_item i LEFT JOIN product p ON p.id = i.product_id WHERE i.order_id IN " + in, args);
+        jdbcTemplate.update("DELETE FROM order_item WHERE order_id IN " + in, args);
+        return jdbcTemplate.update("DELETE FROM orders WHERE id IN " + in, args);
+    }
+
+    private boolean pause() {
+        if (throttleMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(throttleMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
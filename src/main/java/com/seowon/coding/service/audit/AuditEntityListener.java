@@ -0,0 +1,104 @@
+package com.seowon.coding.service.audit;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+/**
+ * 엔티티로 바뀐 주문/재고/가격/상태를 커밋 이후 감사 로그에 기록
+ * - JPA @PostUpdate 는 변경 전 값을 주지 않으므로 Hibernate post-commit 리스너로 변경 전/후 상태를 비교
+ * - 커밋된 변경만 전달되므로 롤백된 주문/재고 차감은 기록되지 않음
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class AuditEntityListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener {
+
+    private final transient EntityManagerFactory entityManagerFactory;
+    private final transient AuditLog auditLog;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> type = persister.getMappedClass();
+        return type == Order.class || type == Product.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Order order) {
+            auditLog.append(AuditEventType.ORDER_PLACED, order.getId(),
+                    order.getItems().size(), AuditLog.minorUnits(order.getTotalAmount()));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            // 분리된 엔티티를 조회 없이 갱신한 경우 변경 전 값을 알 수 없음
+            return;
+        }
+        Object[] state = event.getState();
+        String[] names = event.getPersister().getPropertyNames();
+        if (event.getEntity() instanceof Order order) {
+            int index = indexOf(names, "status");
+            if (oldState[index] != state[index]) {
+                auditLog.append(AuditEventType.STATUS_CHANGED, order.getId(),
+                        AuditLog.ordinal((Order.OrderStatus) oldState[index]), AuditLog.ordinal((Order.OrderStatus) state[index]));
+            }
+        } else if (event.getEntity() instanceof Product product) {
+            int stock = indexOf(names, "stockQuantity");
+            int oldStock = (Integer) oldState[stock];
+            int newStock = (Integer) state[stock];
+            if (oldStock != newStock) {
+                auditLog.append(AuditEventType.STOCK_CHANGED, product.getId(), newStock - oldStock, newStock);
+            }
+            int price = indexOf(names, "price");
+            Money oldPrice = (Money) oldState[price];
+            Money newPrice = (Money) state[price];
+            if (oldPrice == null ? newPrice != null : !oldPrice.equals(newPrice)) {
+                auditLog.append(AuditEventType.PRICE_CHANGED, product.getId(),
+                        AuditLog.minorUnits(oldPrice), AuditLog.minorUnits(newPrice));
+            }
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("No property " + name);
+    }
+}
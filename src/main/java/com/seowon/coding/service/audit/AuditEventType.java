@@ -0,0 +1,42 @@
+package com.seowon.coding.service.audit;
+
+/**
+ * 감사 기록 종류와 arg1/arg2 의 의미 (금액은 minor unit, 없음은 NONE)
+ */
+public enum AuditEventType {
+    // entityId = orderId, arg1 = 항목 수, arg2 = 합계
+    ORDER_PLACED(1),
+    // entityId = productId, arg1 = 재고 증감(차감은 음수), arg2 = 변경 후 재고 (모르면 NONE)
+    STOCK_CHANGED(2),
+    // entityId = productId, arg1 = 변경 전 가격, arg2 = 변경 후 가격
+    PRICE_CHANGED(3),
+    // entityId = orderId, arg1 = 변경 전 상태(OrderStatus ordinal), arg2 = 변경 후 상태
+    STATUS_CHANGED(4);
+
+    public static final long NONE = Long.MIN_VALUE;
+
+    private static final AuditEventType[] BY_CODE = new AuditEventType[5];
+
+    static {
+        for (AuditEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final int code;
+
+    AuditEventType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return 알 수 없는 코드면 null
+     */
+    public static AuditEventType fromCode(int code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
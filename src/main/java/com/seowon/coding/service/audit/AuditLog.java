@@ -0,0 +1,238 @@
+package com.seowon.coding.service.audit;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.PriceChange;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 주문/재고/가격/상태 변경 감사 로그 (DB 가 아닌 memory-mapped segment 파일에 기록)
+ * - 요청 스레드는 ring buffer 에 원시 값만 넣고 반환, 파일 기록은 writer 스레드 하나가 전담
+ * - ring buffer 가 가득 차면 offer-timeout 까지만 기다린 뒤 버리고 audit.dropped 증가
+ *   (writer 가 기록에 실패하는 동안(degraded)은 기다리지 않고 바로 버려 요청 스레드가 막히지 않음)
+ * - 커밋된 변경만 기록 (엔티티 변경은 AuditEntityListener, JDBC 변경은 각 서비스가 커밋 후 기록)
+ * - 디렉터리는 인스턴스 전용이어야 함. 다른 프로세스가 audit.lock 을 잡고 있으면 기록하지 않고 경고만 남김
+ * - force-interval 마다 매핑된 페이지를 디스크에 반영 (프로세스가 죽어도 page cache 의 기록은 남음)
+ */
+@Slf4j
+@Service
+public class AuditLog {
+
+    private static final int DRAIN_BATCH = 1024;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long SHUTDOWN_WAIT_MS = 5000;
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentSize;
+    private final Duration forceInterval;
+    private final long offerTimeoutNanos;
+    private final AuditRingBuffer ring;
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile boolean degraded;
+    private FileChannel lockChannel;
+    private FileLock lock;
+    private AuditSegmentWriter writer;
+    private Thread writerThread;
+
+    public AuditLog(@Value("${app.audit.enabled:true}") boolean enabled,
+                    @Value("${app.audit.directory:${java.io.tmpdir}/coding-audit}") Path directory,
+                    @Value("${app.audit.segment-size:64MB}") DataSize segmentSize,
+                    @Value("${app.audit.ring-capacity:65536}") int ringCapacity,
+                    @Value("${app.audit.force-interval:1s}") Duration forceInterval,
+                    @Value("${app.audit.offer-timeout:5ms}") Duration offerTimeout,
+                    MeterRegistry meterRegistry) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSize = segmentSize.toBytes();
+        this.forceInterval = forceInterval;
+        this.offerTimeoutNanos = offerTimeout.toNanos();
+        this.ring = new AuditRingBuffer(ringCapacity);
+        Gauge.builder("audit.pending", ring, AuditRingBuffer::pending).register(meterRegistry);
+        Gauge.builder("audit.dropped", dropped, AtomicLong::get).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() throws IOException {
+        if (!enabled || running) {
+            return;
+        }
+        Files.createDirectories(directory);
+        lockChannel = FileChannel.open(directory.resolve("audit.lock"), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            // 같은 JVM 의 다른 컨텍스트가 이미 사용 중
+            lock = null;
+        }
+        if (lock == null) {
+            log.warn("Audit directory {} is locked by another process, audit log disabled", directory);
+            lockChannel.close();
+            lockChannel = null;
+            return;
+        }
+        long nextSequence = AuditLogReader.lastSequence(directory) + 1;
+        writer = new AuditSegmentWriter(directory, segmentSize, nextSequence);
+        running = true;
+        writerThread = new Thread(this::writeLoop, "audit-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Audit log writing to {} from sequence {}", directory, nextSequence);
+    }
+
+    /**
+     * 남은 기록을 모두 쓰고 force 한 뒤 종료
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException, InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        writerThread.join(SHUTDOWN_WAIT_MS);
+        if (writerThread.isAlive()) {
+            log.warn("Audit writer did not finish, {} records not written", ring.pending());
+            return;
+        }
+        writer.close();
+        lock.release();
+        lockChannel.close();
+    }
+
+    public boolean isActive() {
+        return running;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    // 지금까지 버린 이벤트 수 (audit.dropped)
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * 즉시 ring buffer 에 기록 (이미 커밋된 변경에만 사용)
+     *
+     * @return 기록하지 않았으면 false (비활성, 종료 중 또는 ring buffer 가 offer-timeout 동안 가득 찬 경우)
+     */
+    public boolean append(AuditEventType type, long entityId, long arg1, long arg2) {
+        if (!enabled) {
+            return false;
+        }
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        if (!running || !ring.offer(System.currentTimeMillis(), type.getCode(), entityId, arg1, arg2,
+                () -> running && !degraded && System.nanoTime() - deadline < 0)) {
+            dropped.incrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void orderPlaced(long orderId, int itemCount, Money total) {
+        appendAfterCommit(AuditEventType.ORDER_PLACED, orderId, itemCount, minorUnits(total));
+    }
+
+    public void stockChanged(long productId, int delta, long stockAfter) {
+        appendAfterCommit(AuditEventType.STOCK_CHANGED, productId, delta, stockAfter);
+    }
+
+    public void priceChanged(long productId, Money oldPrice, Money newPrice) {
+        appendAfterCommit(AuditEventType.PRICE_CHANGED, productId, minorUnits(oldPrice), minorUnits(newPrice));
+    }
+
+    public void priceChanged(List<PriceChange> changes) {
+        for (PriceChange change : changes) {
+            priceChanged(change.productId(), change.oldPrice(), change.newPrice());
+        }
+    }
+
+    public void statusChanged(long orderId, Order.OrderStatus from, Order.OrderStatus to) {
+        appendAfterCommit(AuditEventType.STATUS_CHANGED, orderId, ordinal(from), ordinal(to));
+    }
+
+    static long minorUnits(Money money) {
+        return money == null ? AuditEventType.NONE : money.getMinorUnits();
+    }
+
+    static long ordinal(Order.OrderStatus status) {
+        return status == null ? AuditEventType.NONE : status.ordinal();
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 기록 (롤백된 변경은 기록하지 않음)
+     */
+    private void appendAfterCommit(AuditEventType type, long entityId, long arg1, long arg2) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            append(type, entityId, arg1, arg2);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                append(type, entityId, arg1, arg2);
+            }
+        });
+    }
+
+    private void writeLoop() {
+        long lastForce = System.nanoTime();
+        boolean dirty = false;
+        while (running || ring.pending() > 0) {
+            try {
+                int written = ring.drain(writer::append, DRAIN_BATCH);
+                if (written > 0) {
+                    dirty = true;
+                    if (degraded) {
+                        degraded = false;
+                        log.info("Audit writer recovered at sequence {}", writer.getNextSequence());
+                    }
+                    continue;
+                }
+                if (dirty && System.nanoTime() - lastForce >= forceInterval.toNanos()) {
+                    writer.force();
+                    lastForce = System.nanoTime();
+                    dirty = false;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } catch (IOException | RuntimeException e) {
+                log.error("Audit write failed at sequence {}", writer.getNextSequence(), e);
+                degraded = true;
+                if (!running) {
+                    return;
+                }
+                LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+            }
+        }
+        writer.force();
+    }
+}
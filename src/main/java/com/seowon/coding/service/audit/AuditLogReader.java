@@ -0,0 +1,111 @@
+package com.seowon.coding.service.audit;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 로그 segment 를 순서대로 읽는 오프라인 reader (실행 중인 writer 와 동시에 읽어도 됨)
+ * - 0 으로 채워진 기록을 만나면 그 segment 의 끝
+ * - CRC 가 맞지 않는 기록은 기록 도중 중단된 것(torn)으로 보고 그 segment 의 나머지를 건너뜀
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    public record ReadStats(int segments, long records, long tornSegments, long lastSequence) {
+    }
+
+    /**
+     * @param fromSequence 이 순번 이상인 기록만 전달
+     */
+    public static ReadStats read(Path directory, long fromSequence, Consumer<AuditRecord> consumer) throws IOException {
+        List<Path> segments = segments(directory);
+        ByteBuffer scratch = AuditRecord.newScratch();
+        CRC32C crc = new CRC32C();
+        long records = 0;
+        long torn = 0;
+        long lastSequence = 0;
+        for (int i = 0; i < segments.size(); i++) {
+            // 다음 segment 가 fromSequence 이하에서 시작하면 이 segment 는 읽을 필요 없음
+            if (i + 1 < segments.size() && firstSequence(segments.get(i + 1)) <= fromSequence) {
+                continue;
+            }
+            try (FileChannel channel = FileChannel.open(segments.get(i), StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                checkHeader(segments.get(i), buffer);
+                int position = AuditSegmentWriter.HEADER_SIZE;
+                while (position + AuditRecord.SIZE <= buffer.limit()) {
+                    buffer.get(position, scratch.array(), 0, AuditRecord.SIZE);
+                    AuditRecord record = AuditRecord.decode(scratch, crc);
+                    if (record == null) {
+                        if (!AuditRecord.isEmpty(scratch)) {
+                            torn++;
+                        }
+                        break;
+                    }
+                    lastSequence = record.sequence();
+                    if (record.sequence() >= fromSequence) {
+                        consumer.accept(record);
+                        records++;
+                    }
+                    position += AuditRecord.SIZE;
+                }
+            }
+        }
+        return new ReadStats(segments.size(), records, torn, lastSequence);
+    }
+
+    /**
+     * @return 마지막으로 기록된 순번 (기록이 없으면 0)
+     */
+    public static long lastSequence(Path directory) throws IOException {
+        List<Path> segments = segments(directory);
+        if (segments.isEmpty()) {
+            return 0;
+        }
+        // 마지막 segment 만 읽으면 되고, 비어 있으면 그 앞 segment 의 끝이 마지막 순번
+        long first = firstSequence(segments.get(segments.size() - 1));
+        long last = read(directory, first, record -> {}).lastSequence();
+        return last == 0 ? first - 1 : last;
+    }
+
+    static List<Path> segments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith("audit-") && name.endsWith(".seg");
+                    })
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static long firstSequence(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring("audit-".length(), name.length() - ".seg".length()));
+    }
+
+    private static void checkHeader(Path segment, ByteBuffer buffer) throws IOException {
+        if (buffer.limit() < AuditSegmentWriter.HEADER_SIZE
+                || buffer.getLong(0) != AuditSegmentWriter.MAGIC
+                || buffer.getInt(8) != AuditSegmentWriter.VERSION
+                || buffer.getInt(12) != AuditRecord.SIZE) {
+            throw new IOException("Not an audit segment: " + segment);
+        }
+    }
+}
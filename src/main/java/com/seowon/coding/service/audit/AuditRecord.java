@@ -0,0 +1,77 @@
+package com.seowon.coding.service.audit;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 기록 한 건. 파일에는 고정 길이(48 byte, little-endian)로 기록
+ * <pre>
+ *  0 sequence        long
+ *  8 timestampMillis long
+ * 16 entityId        long
+ * 24 arg1            long
+ * 32 arg2            long
+ * 40 type            short
+ * 42 (reserved)      short
+ * 44 crc32c(0..43)   int
+ * </pre>
+ */
+public record AuditRecord(long sequence,
+                          long timestampMillis,
+                          AuditEventType type,
+                          long entityId,
+                          long arg1,
+                          long arg2) {
+
+    public static final int SIZE = 48;
+    private static final int CRC_OFFSET = 44;
+
+    static ByteBuffer newScratch() {
+        return ByteBuffer.allocate(SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * scratch(heap, little-endian)에 기록. 결과는 scratch.array() 의 0..SIZE
+     */
+    static void encode(ByteBuffer scratch, CRC32C crc,
+                       long sequence, long timestampMillis, int type, long entityId, long arg1, long arg2) {
+        scratch.putLong(0, sequence)
+                .putLong(8, timestampMillis)
+                .putLong(16, entityId)
+                .putLong(24, arg1)
+                .putLong(32, arg2)
+                .putShort(40, (short) type)
+                .putShort(42, (short) 0);
+        crc.reset();
+        crc.update(scratch.array(), 0, CRC_OFFSET);
+        scratch.putInt(CRC_OFFSET, (int) crc.getValue());
+    }
+
+    /**
+     * @return 비어 있거나(기록되지 않은 영역) 손상된 경우 null
+     */
+    static AuditRecord decode(ByteBuffer scratch, CRC32C crc) {
+        crc.reset();
+        crc.update(scratch.array(), 0, CRC_OFFSET);
+        if ((int) crc.getValue() != scratch.getInt(CRC_OFFSET)) {
+            return null;
+        }
+        AuditEventType type = AuditEventType.fromCode(scratch.getShort(40));
+        if (type == null) {
+            return null;
+        }
+        return new AuditRecord(scratch.getLong(0), scratch.getLong(8), type,
+                scratch.getLong(16), scratch.getLong(24), scratch.getLong(32));
+    }
+
+    static boolean isEmpty(ByteBuffer scratch) {
+        byte[] bytes = scratch.array();
+        for (int i = 0; i < SIZE; i++) {
+            if (bytes[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
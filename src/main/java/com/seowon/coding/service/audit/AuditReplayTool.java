@@ -0,0 +1,132 @@
+package com.seowon.coding.service.audit;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 감사 로그 오프라인 조회/재생 도구 (애플리케이션 없이 segment 파일만 읽음)
+ * - 기록을 순서대로 재생해 주문별 최종 상태, 상품별 재고 증감 합계/최종 재고/최종 가격을 계산
+ * - --order / --product 로 한 엔티티의 이력만 출력
+ * 실행: ./gradlew auditReplay -PauditArgs="--dir=/tmp/coding-audit --product=42"
+ */
+public final class AuditReplayTool {
+
+    private final long orderId;
+    private final long productId;
+    private final boolean print;
+
+    private final Map<AuditEventType, Long> counts = new EnumMap<>(AuditEventType.class);
+    private final Map<Long, Order.OrderStatus> orderStatus = new HashMap<>();
+    private final Map<Long, long[]> stock = new HashMap<>();
+    private final Map<Long, Long> price = new HashMap<>();
+    private long orderTotal;
+
+    private AuditReplayTool(long orderId, long productId, boolean print) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.print = print;
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path directory = Path.of(System.getProperty("java.io.tmpdir"), "coding-audit");
+        long from = 1;
+        long orderId = 0;
+        long productId = 0;
+        boolean print = false;
+        for (String arg : args) {
+            if (arg.startsWith("--dir=")) {
+                directory = Path.of(value(arg));
+            } else if (arg.startsWith("--from=")) {
+                from = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--order=")) {
+                orderId = Long.parseLong(value(arg));
+            } else if (arg.startsWith("--product=")) {
+                productId = Long.parseLong(value(arg));
+            } else if (arg.equals("--print")) {
+                print = true;
+            } else {
+                System.err.println("Usage: AuditReplayTool [--dir=PATH] [--from=SEQ] [--order=ID] [--product=ID] [--print]");
+                System.exit(2);
+            }
+        }
+
+        AuditReplayTool tool = new AuditReplayTool(orderId, productId, print);
+        AuditLogReader.ReadStats stats = AuditLogReader.read(directory, from, tool::apply);
+        System.out.printf("%s: %d segments, %d records, last sequence %d, %d torn segments%n",
+                directory, stats.segments(), stats.records(), stats.lastSequence(), stats.tornSegments());
+        tool.summary();
+    }
+
+    private void apply(AuditRecord record) {
+        counts.merge(record.type(), 1L, Long::sum);
+        switch (record.type()) {
+            case ORDER_PLACED -> {
+                orderStatus.put(record.entityId(), Order.OrderStatus.PENDING);
+                if (record.arg2() != AuditEventType.NONE) {
+                    orderTotal += record.arg2();
+                }
+            }
+            case STATUS_CHANGED -> {
+                if (record.arg2() != AuditEventType.NONE) {
+                    orderStatus.put(record.entityId(), Order.OrderStatus.values()[(int) record.arg2()]);
+                }
+            }
+            case STOCK_CHANGED -> {
+                long[] entry = stock.computeIfAbsent(record.entityId(), id -> new long[]{0, AuditEventType.NONE});
+                entry[0] += record.arg1();
+                if (record.arg2() != AuditEventType.NONE) {
+                    entry[1] = record.arg2();
+                }
+            }
+            case PRICE_CHANGED -> price.put(record.entityId(), record.arg2());
+        }
+        if (print || matches(record)) {
+            System.out.println(format(record));
+        }
+    }
+
+    private boolean matches(AuditRecord record) {
+        boolean orderRecord = record.type() == AuditEventType.ORDER_PLACED || record.type() == AuditEventType.STATUS_CHANGED;
+        return orderRecord ? record.entityId() == orderId : record.entityId() == productId;
+    }
+
+    private void summary() {
+        System.out.println("records by type: " + counts);
+        Map<Order.OrderStatus, Long> byStatus = new EnumMap<>(Order.OrderStatus.class);
+        orderStatus.values().forEach(status -> byStatus.merge(status, 1L, Long::sum));
+        System.out.printf("orders: %d placed (total %s), latest status %s%n",
+                counts.getOrDefault(AuditEventType.ORDER_PLACED, 0L), Money.ofMinor(orderTotal), byStatus);
+        System.out.printf("products: %d with stock changes, %d with price changes%n", stock.size(), price.size());
+        if (orderId != 0) {
+            System.out.printf("order %d: %s%n", orderId, orderStatus.get(orderId));
+        }
+        if (productId != 0) {
+            long[] entry = stock.get(productId);
+            Long lastPrice = price.get(productId);
+            System.out.printf("product %d: stock delta %s, stock %s, price %s%n", productId,
+                    entry == null ? 0 : entry[0],
+                    entry == null || entry[1] == AuditEventType.NONE ? "-" : entry[1],
+                    lastPrice == null || lastPrice == AuditEventType.NONE ? "-" : Money.ofMinor(lastPrice));
+        }
+    }
+
+    private static String format(AuditRecord record) {
+        return String.format("%d %s %s id=%d %s %s", record.sequence(), Instant.ofEpochMilli(record.timestampMillis()),
+                record.type(), record.entityId(), argument(record.arg1()), argument(record.arg2()));
+    }
+
+    private static String argument(long value) {
+        return value == AuditEventType.NONE ? "-" : Long.toString(value);
+    }
+
+    private static String value(String arg) {
+        return arg.substring(arg.indexOf('=') + 1);
+    }
+}
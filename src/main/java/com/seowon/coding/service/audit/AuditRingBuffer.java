@@ -0,0 +1,103 @@
+package com.seowon.coding.service.audit;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 여러 요청 스레드가 기록하고 writer 스레드 하나가 꺼내는 lock-free ring buffer
+ * - 생산자는 CAS 로 순번을 확보한 뒤 슬롯(원시 long 배열)에 값을 쓰고 published 를 release 로 표시
+ * - 소비자는 published 를 acquire 로 확인한 순서대로만 꺼내므로 먼저 확보한 순번이 먼저 기록됨
+ * - 가득 차면 생산자는 keepWaiting 이 false 가 될 때까지 대기 (AuditLog 는 offer-timeout 까지만 기다리고 버림)
+ */
+final class AuditRingBuffer {
+
+    private static final VarHandle PUBLISHED = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final int WIDTH = 5;
+    private static final long WAIT_NANOS = 1_000;
+
+    private final int capacity;
+    private final int mask;
+    private final long[] slots;
+    // 슬롯에 기록된 순번 + 1 (0 은 비어 있음)
+    private final long[] published;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long consumed;
+
+    interface Sink {
+        void accept(long timestampMillis, int type, long entityId, long arg1, long arg2) throws IOException;
+    }
+
+    AuditRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.slots = new long[capacity * WIDTH];
+        this.published = new long[capacity];
+    }
+
+    /**
+     * @param keepWaiting 가득 찼을 때 계속 기다릴지 (false 면 기록하지 않고 반환)
+     */
+    boolean offer(long timestampMillis, int type, long entityId, long arg1, long arg2, BooleanSupplier keepWaiting) {
+        long sequence;
+        while (true) {
+            sequence = claimed.get();
+            if (sequence - consumed >= capacity) {
+                if (!keepWaiting.getAsBoolean()) {
+                    return false;
+                }
+                LockSupport.parkNanos(WAIT_NANOS);
+                continue;
+            }
+            if (claimed.compareAndSet(sequence, sequence + 1)) {
+                break;
+            }
+        }
+        int index = (int) (sequence & mask);
+        int base = index * WIDTH;
+        slots[base] = timestampMillis;
+        slots[base + 1] = type;
+        slots[base + 2] = entityId;
+        slots[base + 3] = arg1;
+        slots[base + 4] = arg2;
+        PUBLISHED.setRelease(published, index, sequence + 1);
+        return true;
+    }
+
+    /**
+     * 소비자(writer 스레드 하나)만 호출. sink 가 실패하면 그 기록부터 다음 drain 에서 다시 꺼냄
+     *
+     * @return 꺼낸 기록 수
+     */
+    int drain(Sink sink, int max) throws IOException {
+        long next = consumed;
+        int drained = 0;
+        try {
+            while (drained < max) {
+                int index = (int) (next & mask);
+                if ((long) PUBLISHED.getAcquire(published, index) != next + 1) {
+                    break;
+                }
+                int base = index * WIDTH;
+                sink.accept(slots[base], (int) slots[base + 1], slots[base + 2], slots[base + 3], slots[base + 4]);
+                next++;
+                drained++;
+            }
+        } finally {
+            if (drained > 0) {
+                consumed = next;
+            }
+        }
+        return drained;
+    }
+
+    long pending() {
+        return claimed.get() - consumed;
+    }
+}
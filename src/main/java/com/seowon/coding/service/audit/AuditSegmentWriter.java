@@ -0,0 +1,100 @@
+package com.seowon.coding.service.audit;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32C;
+
+/**
+ * 감사 기록을 memory-mapped segment 파일에 순서대로 기록 (writer 스레드 전용)
+ * - segment 는 segmentSize 크기로 미리 매핑하고, 가득 차면 force 후 다음 파일로 교체
+ * - 파일 이름은 첫 기록의 순번 (audit-00000000000000000001.seg) 이므로 이름순이 기록순
+ * - 기록하지 않은 꼬리 영역은 0 으로 남으며 reader 는 거기서 segment 를 끝냄
+ */
+final class AuditSegmentWriter implements Closeable {
+
+    // "AUDIT001" (little-endian)
+    static final long MAGIC = 0x3130305449445541L;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 64;
+
+    private final Path directory;
+    private final long segmentSize;
+    private final ByteBuffer scratch = AuditRecord.newScratch();
+    private final CRC32C crc = new CRC32C();
+
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private long nextSequence;
+
+    AuditSegmentWriter(Path directory, long segmentSize, long nextSequence) {
+        if (segmentSize < HEADER_SIZE + AuditRecord.SIZE) {
+            throw new IllegalArgumentException("segment size too small: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.nextSequence = nextSequence;
+    }
+
+    static String segmentName(long firstSequence) {
+        return String.format("audit-%020d.seg", firstSequence);
+    }
+
+    void append(long timestampMillis, int type, long entityId, long arg1, long arg2) throws IOException {
+        if (buffer == null || buffer.remaining() < AuditRecord.SIZE) {
+            rotate();
+        }
+        AuditRecord.encode(scratch, crc, nextSequence, timestampMillis, type, entityId, arg1, arg2);
+        buffer.put(scratch.array(), 0, AuditRecord.SIZE);
+        nextSequence++;
+    }
+
+    /**
+     * 매핑된 페이지를 디스크에 반영 (프로세스 종료에는 page cache 로 충분하고, OS 장애 대비용)
+     */
+    void force() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    long getNextSequence() {
+        return nextSequence;
+    }
+
+    /**
+     * 같은 이름의 파일이 이미 있다면 유효한 기록 없이 중단된 segment 이므로 덮어씀
+     */
+    private void rotate() throws IOException {
+        close();
+        Path file = directory.resolve(segmentName(nextSequence));
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        header.putLong(0, MAGIC)
+                .putInt(8, VERSION)
+                .putInt(12, AuditRecord.SIZE)
+                .putLong(16, nextSequence)
+                .putLong(24, System.currentTimeMillis());
+        buffer.put(header.array(), 0, HEADER_SIZE);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer != null) {
+            buffer.force();
+            buffer = null;
+        }
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.seowon.coding.service.catalog;
+
+import org.springframework.http.MediaType;
+
+public enum CatalogFormat {
+    CSV(new MediaType("text", "csv")),
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    // RFC 8742 CBOR sequence: 구분자 없이 이어 붙인 CBOR 항목
+    CBOR(new MediaType("application", "cbor-seq"));
+
+    private final MediaType mediaType;
+
+    CatalogFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static CatalogFormat fromName(String name) {
+        for (CatalogFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported catalog format: " + name);
+    }
+
+    public static CatalogFormat fromMediaType(MediaType contentType) {
+        for (CatalogFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(contentType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported catalog format: " + contentType);
+    }
+}
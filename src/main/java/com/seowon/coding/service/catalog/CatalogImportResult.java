@@ -0,0 +1,37 @@
+package com.seowon.coding.service.catalog;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class CatalogImportResult {
+
+    // 응답 크기를 제한하기 위해 상세 오류는 앞부분만 보고
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    // 기존 상품의 가격 변경은 이 batch 로 이력에 기록 (가격 되돌리기 단위)
+    private final String priceBatchId = UUID.randomUUID().toString();
+    private long processed;
+    private long succeeded;
+    private long failed;
+    private final List<RowError> errors = new ArrayList<>();
+
+    void succeeded(int count) {
+        processed += count;
+        succeeded += count;
+    }
+
+    void failed(long line, String message) {
+        processed++;
+        failed++;
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(new RowError(line, message));
+        }
+    }
+
+    public record RowError(long line, String message) {
+    }
+}
@@ -0,0 +1,329 @@
+package com.seowon.coding.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.repository.PriceChange;
+import com.seowon.coding.domain.repository.PriceHistoryJdbcRepository;
+import com.seowon.coding.domain.repository.ProductCatalogJdbcRepository;
+import com.seowon.coding.domain.repository.ProductCatalogRow;
+import com.seowon.coding.service.audit.AuditLog;
+import com.seowon.coding.service.inventory.InventoryView;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 카탈로그 스트리밍 export/import (CSV, NDJSON, CBOR sequence)
+ * - export: DB 커서에서 읽은 행을 바로 응답 스트림에 기록
+ * - import: 요청 스트림을 한 행씩 파싱하여 BATCH_SIZE 단위로 upsert, 배치마다 커밋
+ *   배치가 실패하면 해당 배치만 한 행씩 다시 실행하여 실패 행을 보고
+ *   기존 상품의 가격 변경은 import 단위 batch 로 가격 이력에 기록하고, 가격/재고 변경은 커밋 후 감사 로그에 기록
+ */
+@Slf4j
+@Service
+public class ProductCatalogService {
+
+    static final String[] CSV_COLUMNS = {"id", "name", "description", "price", "stockQuantity", "category"};
+
+    private static final int FETCH_SIZE = 500;
+    private static final int BATCH_SIZE = 500;
+
+    private final ProductCatalogJdbcRepository productCatalogJdbcRepository;
+    private final PriceHistoryJdbcRepository priceHistoryJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final InventoryView inventoryView;
+    private final AuditLog auditLog;
+
+    public ProductCatalogService(ProductCatalogJdbcRepository productCatalogJdbcRepository,
+                                 PriceHistoryJdbcRepository priceHistoryJdbcRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 ObjectMapper objectMapper,
+                                 InventoryView inventoryView,
+                                 AuditLog auditLog) {
+        this.productCatalogJdbcRepository = productCatalogJdbcRepository;
+        this.priceHistoryJdbcRepository = priceHistoryJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.cborMapper = objectMapper.copyWith(new CBORFactory());
+        this.inventoryView = inventoryView;
+        this.auditLog = auditLog;
+    }
+
+    @Transactional(readOnly = true)
+    public void export(CatalogFormat format, OutputStream out) throws IOException {
+        if (format == CatalogFormat.CBOR) {
+            exportCbor(out);
+            return;
+        }
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        try {
+            if (format == CatalogFormat.CSV) {
+                writer.write(String.join(",", CSV_COLUMNS));
+                writer.write('\n');
+                productCatalogJdbcRepository.streamAll(FETCH_SIZE, row -> writeCsv(writer, row));
+            } else {
+                SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer);
+                productCatalogJdbcRepository.streamAll(FETCH_SIZE, row -> writeJson(sequenceWriter, row));
+                sequenceWriter.flush();
+                writer.write('\n');
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    public CatalogImportResult importCatalog(CatalogFormat format, InputStream in) throws IOException {
+        CatalogImportResult result = new CatalogImportResult();
+        List<PendingRow> batch = new ArrayList<>(BATCH_SIZE);
+
+        if (format == CatalogFormat.CBOR) {
+            importCbor(new BufferedInputStream(in, 64 * 1024), batch, result);
+        } else {
+            Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+            if (format == CatalogFormat.CSV) {
+                importCsv(new CsvRecordReader(reader), batch, result);
+            } else {
+                importNdjson(new BufferedReader(reader), batch, result);
+            }
+        }
+        flush(batch, result);
+
+        // JDBC 로 직접 갱신했으므로 재고 뷰를 다시 적재
+        if (result.getSucceeded() > 0) {
+            inventoryView.reload();
+        }
+        return result;
+    }
+
+    private void importCsv(CsvRecordReader csv, List<PendingRow> batch, CatalogImportResult result) throws IOException {
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim(), i);
+        }
+
+        List<String> fields;
+        while ((fields = csv.next()) != null) {
+            long line = csv.getRecordLine();
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                add(batch, result, line, parseCsv(columns, fields));
+            } catch (RuntimeException e) {
+                result.failed(line, e.getMessage());
+            }
+        }
+    }
+
+    private void importNdjson(BufferedReader lines, List<PendingRow> batch, CatalogImportResult result) throws IOException {
+        ObjectReader rowReader = objectMapper.readerFor(ProductCatalogRow.class);
+        long line = 0;
+        String json;
+        while ((json = lines.readLine()) != null) {
+            line++;
+            if (json.isBlank()) {
+                continue;
+            }
+            try {
+                add(batch, result, line, validate(rowReader.readValue(json)));
+            } catch (IOException | RuntimeException e) {
+                result.failed(line, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * CBOR 는 손상된 항목 이후로 다음 항목의 시작을 찾을 수 없으므로 파싱 오류가 나면 거기서 중단 (이전 항목은 반영)
+     * line 은 1 부터 시작하는 항목 번호
+     */
+    private void importCbor(InputStream in, List<PendingRow> batch, CatalogImportResult result) throws IOException {
+        long item = 0;
+        try (MappingIterator<ProductCatalogRow> rows = cborMapper.readerFor(ProductCatalogRow.class).readValues(in)) {
+            while (true) {
+                ProductCatalogRow row;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    item++;
+                    row = rows.nextValue();
+                } catch (IOException e) {
+                    result.failed(item, e.getMessage());
+                    break;
+                }
+                try {
+                    add(batch, result, item, validate(row));
+                } catch (RuntimeException e) {
+                    result.failed(item, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void add(List<PendingRow> batch, CatalogImportResult result, long line, ProductCatalogRow row) {
+        batch.add(new PendingRow(line, row));
+        if (batch.size() >= BATCH_SIZE) {
+            flush(batch, result);
+        }
+    }
+
+    private void flush(List<PendingRow> batch, CatalogImportResult result) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<ProductCatalogRow> rows = batch.stream().map(PendingRow::row).toList();
+        try {
+            List<ProductCatalogRow> missing = transactionTemplate.execute(status -> upsert(rows, result.getPriceBatchId()));
+            reportMissing(batch, missing, result);
+        } catch (DataAccessException e) {
+            log.debug("Catalog batch failed, retrying row by row: {}", e.getMessage());
+            for (PendingRow pending : batch) {
+                try {
+                    List<ProductCatalogRow> missing = transactionTemplate.execute(status ->
+                            upsert(List.of(pending.row()), result.getPriceBatchId()));
+                    reportMissing(List.of(pending), missing, result);
+                } catch (DataAccessException rowError) {
+                    result.failed(pending.line(), rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+        batch.clear();
+    }
+
+    private List<ProductCatalogRow> upsert(List<ProductCatalogRow> rows, String priceBatchId) {
+        List<Long> ids = rows.stream().map(ProductCatalogRow::id).filter(Objects::nonNull).toList();
+        Map<Long, ProductCatalogRow> current = productCatalogJdbcRepository.lockByIds(ids);
+        List<ProductCatalogRow> missing = productCatalogJdbcRepository.upsertBatch(rows);
+
+        List<PriceChange> changes = new ArrayList<>();
+        for (ProductCatalogRow row : rows) {
+            ProductCatalogRow before = row.id() == null ? null : current.get(row.id());
+            if (before == null) {
+                continue;
+            }
+            Money oldPrice = before.price() == null ? null : Money.of(before.price());
+            Money newPrice = Money.of(row.price());
+            if (!newPrice.equals(oldPrice)) {
+                changes.add(new PriceChange(row.id(), oldPrice, newPrice));
+            }
+            if (row.stockQuantity() != before.stockQuantity()) {
+                auditLog.stockChanged(row.id(), row.stockQuantity() - before.stockQuantity(), row.stockQuantity());
+            }
+            // 같은 id 가 한 배치에 여러 번 나오면 마지막 값이 반영됨
+            current.put(row.id(), row);
+        }
+        priceHistoryJdbcRepository.append(changes, priceBatchId, LocalDateTime.now());
+        auditLog.priceChanged(changes);
+        return missing;
+    }
+
+    private static void reportMissing(List<PendingRow> batch, List<ProductCatalogRow> missing, CatalogImportResult result) {
+        Set<ProductCatalogRow> missingRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        missingRows.addAll(missing);
+        int succeeded = 0;
+        for (PendingRow pending : batch) {
+            if (missingRows.contains(pending.row())) {
+                result.failed(pending.line(), "Product not found with id: " + pending.row().id());
+            } else {
+                succeeded++;
+            }
+        }
+        result.succeeded(succeeded);
+    }
+
+    private static ProductCatalogRow parseCsv(Map<String, Integer> columns, List<String> fields) {
+        String id = field(columns, fields, "id");
+        String price = field(columns, fields, "price");
+        String stock = field(columns, fields, "stockQuantity");
+        return validate(new ProductCatalogRow(
+                id == null || id.isBlank() ? null : Long.valueOf(id.trim()),
+                field(columns, fields, "name"),
+                field(columns, fields, "description"),
+                price == null || price.isBlank() ? null : new BigDecimal(price.trim()),
+                stock == null || stock.isBlank() ? 0 : Integer.parseInt(stock.trim()),
+                field(columns, fields, "category")));
+    }
+
+    private static String field(Map<String, Integer> columns, List<String> fields, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index);
+        return value.isEmpty() ? null : value;
+    }
+
+    private static ProductCatalogRow validate(ProductCatalogRow row) {
+        if (row.name() == null || row.name().isBlank()) {
+            throw new IllegalArgumentException("Product name is required");
+        }
+        if (row.price() == null || row.price().signum() <= 0) {
+            throw new IllegalArgumentException("Price must be positive");
+        }
+        if (row.stockQuantity() < 0) {
+            throw new IllegalArgumentException("Stock quantity must not be negative");
+        }
+        return row;
+    }
+
+    private static void writeCsv(Writer writer, ProductCatalogRow row) {
+        try {
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(CsvRecordReader.escape(row.name()));
+            writer.write(',');
+            writer.write(CsvRecordReader.escape(row.description()));
+            writer.write(',');
+            writer.write(row.price() == null ? "" : row.price().toPlainString());
+            writer.write(',');
+            writer.write(Integer.toString(row.stockQuantity()));
+            writer.write(',');
+            writer.write(CsvRecordReader.escape(row.category()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void exportCbor(OutputStream out) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(out, 64 * 1024);
+        SequenceWriter sequenceWriter = cborMapper.writer().writeValues(buffered);
+        try {
+            productCatalogJdbcRepository.streamAll(FETCH_SIZE, row -> writeJson(sequenceWriter, row));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        sequenceWriter.flush();
+        buffered.flush();
+    }
+
+    private static void writeJson(SequenceWriter writer, ProductCatalogRow row) {
+        try {
+            writer.write(row);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record PendingRow(long line, ProductCatalogRow row) {
+    }
+}
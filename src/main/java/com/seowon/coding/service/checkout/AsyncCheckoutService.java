@@ -0,0 +1,307 @@
+package com.seowon.coding.service.checkout;
+
+import com.seowon.coding.domain.model.CheckoutTicket;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.CheckoutTicketRepository;
+import com.seowon.coding.service.JobCoordinator;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.inventory.InventoryView;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 주문 접수/처리
+ * - submit: 요청 검증 후 접수표(checkout_ticket)를 저장하고 로컬 대기열에 넣음. 대기열이 가득 차면 저장 없이 거절
+ * - worker: 대기열에서 최대 batch-size 개를 꺼내 한 트랜잭션으로 placeOrder 를 실행하고, 실패하면 한 건씩 다시 처리
+ * - 접수표는 DB 에 있으므로 재시작/노드 장애 시 recover 가 ACCEPTED 접수표를 다시 대기열에 넣음
+ * - 처리 결과는 owner 조건부 UPDATE 로 기록하여 두 노드가 같은 접수표로 주문을 만들지 않도록 함
+ * - long-poll 시간 초과 후 DB 재조회는 poll-threads 개의 전용 스레드에서 수행 (공용 ForkJoinPool 을 막지 않음)
+ */
+@Slf4j
+@Service
+public class AsyncCheckoutService {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final CheckoutTicketRepository checkoutTicketRepository;
+    private final OrderService orderService;
+    private final InventoryView inventoryView;
+    private final TransactionTemplate transactionTemplate;
+    private final String nodeId;
+    private final int queueCapacity;
+    private final int workers;
+    private final int batchSize;
+    private final Duration staleAfter;
+    private final ExecutorService pollExecutor;
+
+    private final Semaphore capacity;
+    private final BlockingQueue<String> queue = new LinkedBlockingQueue<>();
+    // 대기열에 있거나 처리 중인 접수표 (recover 중복 적재 방지)
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    // 접수표별 대기자. 같은 접수표를 여러 요청이 기다리면 하나를 공유하고 참조 수로 정리
+    private final Map<String, Waiter> waiters = new ConcurrentHashMap<>();
+    private ExecutorService executor;
+
+    public AsyncCheckoutService(CheckoutTicketRepository checkoutTicketRepository,
+                                OrderService orderService,
+                                InventoryView inventoryView,
+                                JobCoordinator jobCoordinator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.checkout.async.queue-capacity:1000}") int queueCapacity,
+                                @Value("${app.checkout.async.workers:4}") int workers,
+                                @Value("${app.checkout.async.batch-size:20}") int batchSize,
+                                @Value("${app.checkout.async.stale-after:5m}") Duration staleAfter,
+                                @Value("${app.checkout.async.poll-threads:2}") int pollThreads) {
+        this.checkoutTicketRepository = checkoutTicketRepository;
+        this.orderService = orderService;
+        this.inventoryView = inventoryView;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.nodeId = jobCoordinator.getNodeId();
+        this.queueCapacity = queueCapacity;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.staleAfter = staleAfter;
+        this.capacity = new Semaphore(queueCapacity);
+        AtomicInteger sequence = new AtomicInteger();
+        this.pollExecutor = Executors.newFixedThreadPool(pollThreads, runnable -> {
+            Thread thread = new Thread(runnable, "checkout-poll-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        AtomicInteger sequence = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(workers, runnable -> {
+            Thread thread = new Thread(runnable, "checkout-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workers; i++) {
+            executor.execute(this::work);
+        }
+        recover();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            // 처리 중이던 접수표는 ACCEPTED 로 남아 재시작 후 recover 됨
+            executor.shutdownNow();
+        }
+        pollExecutor.shutdownNow();
+    }
+
+    public CheckoutTicket submit(String customerName, String customerEmail, List<Long> productIds, List<Integer> quantities) {
+        validate(customerName, customerEmail, productIds, quantities);
+        if (!capacity.tryAcquire()) {
+            throw new CheckoutQueueFullException(queueCapacity);
+        }
+        try {
+            CheckoutTicket ticket = checkoutTicketRepository.save(
+                    CheckoutTicket.accept(customerName, customerEmail, productIds, quantities, nodeId));
+            inFlight.add(ticket.getId());
+            queue.add(ticket.getId());
+            return ticket;
+        } catch (RuntimeException e) {
+            capacity.release();
+            throw e;
+        }
+    }
+
+    public Optional<CheckoutTicket> find(String ticketId) {
+        return checkoutTicketRepository.findById(ticketId);
+    }
+
+    /**
+     * long-poll: 접수표가 처리되거나 wait 가 지나면 그 시점의 상태로 완료
+     */
+    public CompletableFuture<Optional<CheckoutTicket>> poll(String ticketId, Duration wait) {
+        Waiter waiter = waiters.compute(ticketId, (id, existing) -> {
+            Waiter joined = existing == null ? new Waiter() : existing;
+            joined.count++;
+            return joined;
+        });
+        Optional<CheckoutTicket> current = find(ticketId);
+        if (current.isEmpty() || current.get().isDone() || wait.isZero() || wait.isNegative()) {
+            release(ticketId, waiter);
+            return CompletableFuture.completedFuture(current);
+        }
+        return waiter.done.copy()
+                .completeOnTimeout(null, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .thenCompose(ticket -> {
+                    release(ticketId, waiter);
+                    if (ticket != null) {
+                        return CompletableFuture.completedFuture(Optional.of(ticket));
+                    }
+                    // 다른 노드가 처리했을 수 있으므로 DB 에서 다시 조회
+                    return CompletableFuture.supplyAsync(() -> find(ticketId), pollExecutor);
+                });
+    }
+
+    /**
+     * 마지막 대기자가 떠날 때만 제거 (완료 통지로 이미 제거되었으면 무시)
+     */
+    private void release(String ticketId, Waiter waiter) {
+        waiters.computeIfPresent(ticketId, (id, existing) -> existing == waiter && --existing.count == 0 ? null : existing);
+    }
+
+    /**
+     * 재시작 전에 이 노드가 접수했거나 장애 노드가 남긴 접수표를 다시 대기열에 넣음
+     */
+    @Scheduled(fixedDelayString = "${app.checkout.async.recover-ms:30000}", initialDelayString = "${app.checkout.async.recover-ms:30000}")
+    public void recover() {
+        int room = capacity.availablePermits();
+        if (room == 0) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime staleBefore = now.minus(staleAfter);
+        int recovered = 0;
+        for (String ticketId : checkoutTicketRepository.findRecoverable(nodeId, staleBefore, PageRequest.of(0, room))) {
+            if (inFlight.contains(ticketId) || !capacity.tryAcquire()) {
+                continue;
+            }
+            if (checkoutTicketRepository.claim(ticketId, nodeId, staleBefore, now) == 1 && inFlight.add(ticketId)) {
+                queue.add(ticketId);
+                recovered++;
+            } else {
+                capacity.release();
+            }
+        }
+        if (recovered > 0) {
+            log.info("Recovered {} checkout tickets", recovered);
+        }
+    }
+
+    private void work() {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            try {
+                process(batch);
+            } catch (RuntimeException e) {
+                log.error("Checkout batch failed: {}", batch, e);
+            } finally {
+                batch.forEach(inFlight::remove);
+                capacity.release(batch.size());
+                batch.clear();
+            }
+        }
+    }
+
+    private void process(List<String> ticketIds) {
+        // 접수 순서대로 처리 (재고가 부족하면 먼저 접수한 주문이 우선)
+        Map<String, CheckoutTicket> found = new HashMap<>();
+        checkoutTicketRepository.findAllById(ticketIds).forEach(ticket -> found.put(ticket.getId(), ticket));
+        List<CheckoutTicket> tickets = ticketIds.stream().map(found::get).filter(Objects::nonNull).toList();
+        if (tickets.size() > 1) {
+            try {
+                List<Long> orderIds = transactionTemplate.execute(status -> tickets.stream().map(this::placeOrder).toList());
+                LocalDateTime now = LocalDateTime.now();
+                for (int i = 0; i < tickets.size(); i++) {
+                    tickets.get(i).complete(orderIds.get(i), now);
+                    notifyWaiters(tickets.get(i));
+                }
+                return;
+            } catch (RuntimeException e) {
+                log.debug("Checkout batch of {} failed, processing one by one", tickets.size(), e);
+            }
+        }
+
+        for (CheckoutTicket ticket : tickets) {
+            try {
+                Long orderId = transactionTemplate.execute(status -> placeOrder(ticket));
+                ticket.complete(orderId, LocalDateTime.now());
+            } catch (DataAccessException e) {
+                // 인프라 오류는 ACCEPTED 로 남겨 stale-after 이후 recover 에서 재시도
+                log.warn("Checkout ticket {} deferred: {}", ticket.getId(), e.getMessage());
+                continue;
+            } catch (RuntimeException e) {
+                markFailed(ticket, e);
+            }
+            notifyWaiters(ticket);
+        }
+    }
+
+    /**
+     * @return 생성된 주문 id. 접수표를 다른 노드가 가져갔으면 예외로 트랜잭션을 롤백
+     */
+    private Long placeOrder(CheckoutTicket ticket) {
+        Order order = orderService.placeOrder(ticket.getCustomerName(), ticket.getCustomerEmail(),
+                ticket.getProductIds(), ticket.getQuantities());
+        if (checkoutTicketRepository.finish(ticket.getId(), nodeId, CheckoutTicket.Status.COMPLETED,
+                order.getId(), null, LocalDateTime.now()) != 1) {
+            throw new IllegalStateException("Checkout ticket no longer owned by " + nodeId + ": " + ticket.getId());
+        }
+        return order.getId();
+    }
+
+    private void markFailed(CheckoutTicket ticket, RuntimeException cause) {
+        String error = String.valueOf(cause.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (checkoutTicketRepository.finish(ticket.getId(), nodeId, CheckoutTicket.Status.FAILED, null, error, now) == 1) {
+            ticket.fail(error, now);
+        }
+    }
+
+    private void notifyWaiters(CheckoutTicket ticket) {
+        if (!ticket.isDone()) {
+            return;
+        }
+        Waiter waiter = waiters.remove(ticket.getId());
+        if (waiter != null) {
+            waiter.done.complete(ticket);
+        }
+    }
+
+    private void validate(String customerName, String customerEmail, List<Long> productIds, List<Integer> quantities) {
+        if (customerName == null || customerEmail == null) {
+            throw new IllegalArgumentException("customer info required");
+        }
+        if (productIds == null || quantities == null || productIds.isEmpty() || productIds.size() != quantities.size()) {
+            throw new IllegalArgumentException("products/quantities invalid");
+        }
+        for (int i = 0; i < productIds.size(); i++) {
+            Integer quantity = quantities.get(i);
+            if (productIds.get(i) == null || quantity == null || quantity <= 0) {
+                throw new IllegalArgumentException("invalid product line: " + productIds.get(i) + " x " + quantity);
+            }
+            // 재고 부족은 처리 시점에 판단 (메모리 뷰는 지연될 수 있음), 존재하지 않는 상품만 미리 거절
+            if (inventoryView.isLoaded() && inventoryView.getStock(productIds.get(i)) == InventoryView.UNKNOWN) {
+                throw new IllegalArgumentException("Product Not Found: " + productIds.get(i));
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final CompletableFuture<CheckoutTicket> done = new CompletableFuture<>();
+        // waiters.compute 안에서만 변경
+        private int count;
+    }
+}
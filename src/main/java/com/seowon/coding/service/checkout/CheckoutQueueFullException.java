@@ -0,0 +1,11 @@
+package com.seowon.coding.service.checkout;
+
+/**
+ * 비동기 주문 대기열이 가득 찬 경우. 접수표를 저장하기 전에 발생하므로 클라이언트가 재시도하면 됨
+ */
+public class CheckoutQueueFullException extends RuntimeException {
+
+    public CheckoutQueueFullException(int capacity) {
+        super("Checkout queue is full: capacity=" + capacity);
+    }
+}
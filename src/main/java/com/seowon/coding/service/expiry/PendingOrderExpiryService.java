@@ -0,0 +1,168 @@
+package com.seowon.coding.service.expiry;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import com.seowon.coding.service.audit.AuditLog;
+import com.seowon.coding.service.inventory.InventoryView;
+import com.seowon.coding.util.HierarchicalTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 결제되지 않은 PENDING 주문을 app.orders.pending-timeout 이후 CANCELLED 로 바꾸고 재고를 돌려놓음
+ * - 만료 시각은 메모리 타이밍 휠에 등록 (주문 저장 시 PendingOrderListener, 기동 시 PENDING 주문 한 번 적재)
+ * - 휠에서 꺼낸 주문만 batch-size 단위로 처리하므로 주기적인 orders 스캔이 없음
+ * - 만료 처리 시 status = PENDING 을 다시 확인하고 행을 잠그므로, 이미 진행된 주문이나 다른 노드가 먼저 만료시킨 주문은 건너뜀
+ */
+@Slf4j
+@Service
+public class PendingOrderExpiryService {
+
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final InventoryView inventoryView;
+    private final AuditLog auditLog;
+    private final OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final int batchSize;
+    private final HierarchicalTimingWheel wheel;
+
+    public PendingOrderExpiryService(JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager,
+                                     InventoryView inventoryView,
+                                     AuditLog auditLog,
+                                     OrderTimelineJdbcRepository orderTimelineJdbcRepository,
+                                     @Value("${app.orders.expiry.enabled:true}") boolean enabled,
+                                     @Value("${app.orders.pending-timeout:30m}") Duration timeout,
+                                     @Value("${app.orders.expiry.batch-size:200}") int batchSize,
+                                     @Value("${app.orders.expiry.tick-ms:1000}") long tickMs,
+                                     @Value("${app.orders.expiry.wheel-size:64}") int wheelSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inventoryView = inventoryView;
+        this.auditLog = auditLog;
+        this.orderTimelineJdbcRepository = orderTimelineJdbcRepository;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.batchSize = batchSize;
+        this.wheel = new HierarchicalTimingWheel(tickMs, wheelSize, System.currentTimeMillis());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        int[] count = {0};
+        jdbcTemplate.query("SELECT id, order_date FROM orders WHERE status = 'PENDING'", (RowCallbackHandler) rs -> {
+            Timestamp orderDate = rs.getTimestamp(2);
+            schedule(rs.getLong(1), orderDate == null ? LocalDateTime.now() : orderDate.toLocalDateTime());
+            count[0]++;
+        });
+        log.info("Scheduled expiry for {} pending orders", count[0]);
+    }
+
+    public void schedule(long orderId, LocalDateTime orderDate) {
+        if (!enabled) {
+            return;
+        }
+        long deadline = orderDate.plus(timeout).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        synchronized (wheel) {
+            wheel.schedule(orderId, deadline);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.orders.expiry.tick-ms:1000}")
+    public void expireDue() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(System.currentTimeMillis(), due::add);
+        }
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Long> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+            try {
+                expire(batch);
+            } catch (RuntimeException e) {
+                log.warn("Pending order expiry failed for {} orders, retrying in {}", batch.size(), RETRY_DELAY, e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY.toMillis();
+                synchronized (wheel) {
+                    batch.forEach(orderId -> wheel.schedule(orderId, retryAt));
+                }
+            }
+        }
+    }
+
+    /**
+     * @return CANCELLED 로 바뀐 주문 수
+     */
+    int expire(List<Long> orderIds) {
+        LocalDateTime cutoff = LocalDateTime.now().minus(timeout);
+        Map<Long, Integer> releasedStock = new HashMap<>();
+        Integer expired = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM orders WHERE id IN (" + placeholders(orderIds.size()) + ") " +
+                            "AND status = 'PENDING' AND order_date <= ? FOR UPDATE",
+                    Long.class, append(orderIds.toArray(), Timestamp.valueOf(cutoff)));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            String in = "(" + placeholders(ids.size()) + ")";
+            Object[] args = ids.toArray();
+
+            jdbcTemplate.update(
+                    "UPDATE product p SET stock_quantity = stock_quantity + " +
+                            "(SELECT COALESCE(SUM(i.quantity), 0) FROM order_item i WHERE i.product_id = p.id AND i.order_id IN " + in + "), " +
+                            "updated_at = CURRENT_TIMESTAMP(6) " +
+                            "WHERE p.id IN (SELECT i.product_id FROM order_item i WHERE i.order_id IN " + in + ")",
+                    append(args, args));
+            jdbcTemplate.query(
+                    "SELECT p.id, SUM(i.quantity), p.stock_quantity FROM product p JOIN order_item i ON i.product_id = p.id " +
+                            "WHERE i.order_id IN " + in + " GROUP BY p.id, p.stock_quantity",
+                    (RowCallbackHandler) rs -> {
+                        releasedStock.put(rs.getLong(1), rs.getInt(3));
+                        auditLog.stockChanged(rs.getLong(1), rs.getInt(2), rs.getInt(3));
+                    },
+                    args);
+            int cancelled = jdbcTemplate.update("UPDATE orders SET status = 'CANCELLED' WHERE id IN " + in, args);
+            orderTimelineJdbcRepository.updateStatus(ids, Order.OrderStatus.CANCELLED);
+            ids.forEach(id -> auditLog.statusChanged(id, Order.OrderStatus.PENDING, Order.OrderStatus.CANCELLED));
+            return cancelled;
+        });
+        // JDBC 로 바꾼 재고는 엔티티 리스너를 거치지 않으므로 커밋 후 직접 반영
+        releasedStock.forEach(inventoryView::update);
+        if (expired != null && expired > 0) {
+            log.info("Expired {} pending orders", expired);
+        }
+        return expired == null ? 0 : expired;
+    }
+
+    private static String placeholders(int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] append(Object[] head, Object... tail) {
+        Object[] result = Arrays.copyOf(head, head.length + tail.length);
+        System.arraycopy(tail, 0, result, head.length, tail.length);
+        return result;
+    }
+}
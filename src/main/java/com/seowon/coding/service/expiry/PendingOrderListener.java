@@ -0,0 +1,55 @@
+package com.seowon.coding.service.expiry;
+
+import com.seowon.coding.domain.model.Order;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * PENDING 으로 저장된 주문을 커밋 이후 만료 타이밍 휠에 등록 (롤백된 주문은 등록하지 않음)
+ * - 도메인 모델이 서비스에 의존하지 않도록 @EntityListeners 대신 Hibernate post-commit 리스너로 등록
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class PendingOrderListener implements PostCommitInsertEventListener {
+
+    private final transient EntityManagerFactory entityManagerFactory;
+    private final transient PendingOrderExpiryService pendingOrderExpiryService;
+
+    @PostConstruct
+    void register() {
+        entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class)
+                .appendListeners(EventType.POST_COMMIT_INSERT, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.getMappedClass() == Order.class;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!(event.getEntity() instanceof Order order) || order.getStatus() != Order.OrderStatus.PENDING) {
+            return;
+        }
+        LocalDateTime orderDate = order.getOrderDate() == null ? LocalDateTime.now() : order.getOrderDate();
+        pendingOrderExpiryService.schedule(order.getId(), orderDate);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+}
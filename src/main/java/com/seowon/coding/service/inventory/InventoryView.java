@@ -0,0 +1,132 @@
+package com.seowon.coding.service.inventory;
+
+import com.seowon.coding.util.LongIntOpenHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 재고의 메모리 뷰 (productId -> stockQuantity)
+ * - 기동 시 DB 에서 적재하고, 커밋된 재고 변경은 ProductInventoryListener 가 반영
+ * - 다른 노드나 JDBC 일괄 작업으로 인한 차이는 주기적 재적재(app.inventory.refresh-ms)로 보정
+ * - 가용성 판단용이며, 실제 재고 차감은 DB 트랜잭션에서 수행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InventoryView {
+
+    public static final int UNKNOWN = -1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private LongIntOpenHashMap stock = new LongIntOpenHashMap(1024);
+    // 재적재 중 들어온 변경 (스캔 결과 위에 다시 반영)
+    private Map<Long, Integer> changedDuringReload;
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.inventory.refresh-ms:60000}", initialDelayString = "${app.inventory.refresh-ms:60000}")
+    public synchronized void reload() {
+        long started = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            changedDuringReload = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM product", Long.class);
+        LongIntOpenHashMap fresh = new LongIntOpenHashMap((int) Math.max(16, count == null ? 0 : count));
+        jdbcTemplate.query("SELECT id, stock_quantity FROM product",
+                (RowCallbackHandler) rs -> fresh.put(rs.getLong(1), rs.getInt(2)));
+
+        lock.writeLock().lock();
+        try {
+            changedDuringReload.forEach((id, quantity) -> {
+                if (quantity == UNKNOWN) {
+                    fresh.remove(id);
+                } else {
+                    fresh.put(id, quantity);
+                }
+            });
+            changedDuringReload = null;
+            stock = fresh;
+            loaded = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Inventory view reloaded: {} products in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public void update(long productId, int quantity) {
+        lock.writeLock().lock();
+        try {
+            stock.put(productId, quantity);
+            if (changedDuringReload != null) {
+                changedDuringReload.put(productId, quantity);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            stock.remove(productId);
+            if (changedDuringReload != null) {
+                changedDuringReload.put(productId, UNKNOWN);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int getStock(long productId) {
+        if (productId <= 0) {
+            return UNKNOWN;
+        }
+        lock.readLock().lock();
+        try {
+            return stock.get(productId, UNKNOWN);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 여러 상품의 요청 수량 가용 여부를 한 번의 잠금으로 확인
+     * @return 각 항목의 재고가 요청 수량 이상이면 true (없는 상품, 0 이하 id 는 false)
+     */
+    public boolean[] checkAvailability(long[] productIds, int[] quantities) {
+        boolean[] available = new boolean[productIds.length];
+        lock.readLock().lock();
+        try {
+            for (int i = 0; i < productIds.length; i++) {
+                available[i] = productIds[i] > 0 && stock.get(productIds[i], UNKNOWN) >= Math.max(1, quantities[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return available;
+    }
+}
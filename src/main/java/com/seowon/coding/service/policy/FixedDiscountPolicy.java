@@ -1,17 +1,16 @@
 package com.seowon.coding.service.policy;
 
 import com.seowon.coding.domain.model.DiscountPolicy;
+import com.seowon.coding.domain.model.Money;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 @Component
 public class FixedDiscountPolicy implements DiscountPolicy {
 
-    private static final BigDecimal SALE_DISCOUNT = new BigDecimal("10.00");
+    private static final Money SALE_DISCOUNT = Money.of("10.00");
 
     @Override
-    public BigDecimal calculateDiscount(String couponCode) {
-        return (couponCode != null && couponCode.startsWith("SALE")) ? SALE_DISCOUNT : BigDecimal.ZERO;
+    public Money calculateDiscount(String couponCode) {
+        return (couponCode != null && couponCode.startsWith("SALE")) ? SALE_DISCOUNT : Money.zero();
     }
 }
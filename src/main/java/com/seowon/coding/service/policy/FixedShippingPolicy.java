@@ -1,19 +1,18 @@
 package com.seowon.coding.service.policy;
 
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.ShippingPolicy;
 import org.springframework.stereotype.Component;
 
-import java.math.BigDecimal;
-
 @Component
 public class FixedShippingPolicy implements ShippingPolicy {
 
-    private static final BigDecimal FREE_THRESHOLD = new BigDecimal("100.00");
-    private static final BigDecimal DEFAULT_FEE = new BigDecimal("5.00");
+    private static final Money FREE_THRESHOLD = Money.of("100.00");
+    private static final Money DEFAULT_FEE = Money.of("5.00");
 
     @Override
-    public BigDecimal calculateShipping(Order order) {
-        return order.getTotalAmount().compareTo(FREE_THRESHOLD) >= 0 ? BigDecimal.ZERO : DEFAULT_FEE;
+    public Money calculateShipping(Order order) {
+        return order.getTotalAmount().isGreaterThanOrEqual(FREE_THRESHOLD) ? Money.zero() : DEFAULT_FEE;
     }
 }
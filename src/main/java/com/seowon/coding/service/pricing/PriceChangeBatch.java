@@ -0,0 +1,11 @@
+package com.seowon.coding.service.pricing;
+
+import java.util.List;
+
+/**
+ * 일괄 가격 변경 결과. batchId 로 되돌릴 수 있음
+ *
+ * @param missing 존재하지 않거나 가격이 없어 변경하지 않은 상품 id
+ */
+public record PriceChangeBatch(String batchId, long changed, List<Long> missing) {
+}
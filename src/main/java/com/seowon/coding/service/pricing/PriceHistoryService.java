@@ -0,0 +1,157 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.repository.PriceChange;
+import com.seowon.coding.domain.repository.PriceHistoryEntry;
+import com.seowon.coding.domain.repository.PriceHistoryJdbcRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.audit.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 가격 이력 기반 일괄 가격 변경/되돌리기, 시점 가격 조회
+ * - 일괄 변경은 chunk-size 개씩 트랜잭션을 나누어 set-based 로 처리하고, 변경 전/후 가격을 같은 트랜잭션에서 이력에 기록
+ * - 되돌리기는 batch 의 이력을 id 역순(최신 변경부터)으로 chunk 씩 읽어, 가격이 아직 그 batch 가 설정한 값인 상품만 변경 전 가격으로 복원
+ *   (같은 batch 에서 여러 번 바뀐 상품도 마지막 변경부터 차례로 되돌려 batch 이전 가격으로 돌아감)
+ */
+@Slf4j
+@Service
+public class PriceHistoryService {
+
+    private static final BigDecimal VAT = new BigDecimal("1.10");
+
+    private final PriceHistoryJdbcRepository priceHistoryJdbcRepository;
+    private final ProductRepository productRepository;
+    private final AuditLog auditLog;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public PriceHistoryService(PriceHistoryJdbcRepository priceHistoryJdbcRepository,
+                               ProductRepository productRepository,
+                               AuditLog auditLog,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.pricing.chunk-size:500}") int chunkSize) {
+        this.priceHistoryJdbcRepository = priceHistoryJdbcRepository;
+        this.productRepository = productRepository;
+        this.auditLog = auditLog;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    public PriceChangeBatch applyBulkPriceChange(List<Long> productIds, BigDecimal percentage, boolean includeTax) {
+        if (productIds == null || productIds.isEmpty()) {
+            throw new IllegalArgumentException("empty productIds");
+        }
+        BigDecimal factor = BigDecimal.ONE.add(percentage.movePointLeft(2));
+        if (includeTax) {
+            factor = factor.multiply(VAT);
+        }
+
+        String batchId = UUID.randomUUID().toString();
+        List<Long> ids = List.copyOf(new LinkedHashSet<>(productIds));
+        List<Long> missing = new ArrayList<>();
+        long changed = 0;
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            BigDecimal chunkFactor = factor;
+            changed += transactionTemplate.execute(status -> changeChunk(chunk, chunkFactor, batchId, missing));
+        }
+        log.info("Price batch {} changed {} products ({} missing)", batchId, changed, missing.size());
+        return new PriceChangeBatch(batchId, changed, missing);
+    }
+
+    private int changeChunk(List<Long> chunk, BigDecimal factor, String batchId, List<Long> missing) {
+        Map<Long, Money> current = priceHistoryJdbcRepository.lockPrices(chunk);
+        List<PriceChange> changes = new ArrayList<>(chunk.size());
+        for (Long id : chunk) {
+            Money oldPrice = current.get(id);
+            if (oldPrice == null) {
+                missing.add(id);
+                continue;
+            }
+            changes.add(new PriceChange(id, oldPrice, oldPrice.multiply(factor)));
+        }
+        if (!changes.isEmpty()) {
+            LocalDateTime now = LocalDateTime.now();
+            priceHistoryJdbcRepository.updatePrices(changes, now);
+            priceHistoryJdbcRepository.append(changes, batchId, now);
+            auditLog.priceChanged(changes);
+        }
+        return changes.size();
+    }
+
+    /**
+     * @throws NoSuchElementException batch 이력이 없는 경우
+     */
+    public PriceRollbackResult rollback(String batchId) {
+        String rollbackBatchId = UUID.randomUUID().toString();
+        long restored = 0;
+        long skipped = 0;
+        long beforeId = Long.MAX_VALUE;
+        boolean found = false;
+        while (true) {
+            List<PriceHistoryEntry> entries = priceHistoryJdbcRepository.findByBatchIdNewestFirst(batchId, beforeId, chunkSize);
+            if (entries.isEmpty()) {
+                break;
+            }
+            found = true;
+            beforeId = entries.get(entries.size() - 1).id();
+
+            List<PriceChange> reverts = new ArrayList<>(entries.size());
+            for (PriceHistoryEntry entry : entries) {
+                if (entry.oldPrice() == null || entry.newPrice() == null) {
+                    skipped++;
+                    continue;
+                }
+                reverts.add(new PriceChange(entry.productId(), entry.newPrice(), entry.oldPrice()));
+            }
+            int applied = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<PriceChange> changes = priceHistoryJdbcRepository.compareAndSetPrices(reverts, now);
+                priceHistoryJdbcRepository.append(changes, rollbackBatchId, now);
+                auditLog.priceChanged(changes);
+                return changes.size();
+            });
+            restored += applied;
+            skipped += reverts.size() - applied;
+        }
+        if (!found) {
+            throw new NoSuchElementException("Price batch not found: " + batchId);
+        }
+        log.info("Price batch {} rolled back as {}: {} restored, {} skipped", batchId, rollbackBatchId, restored, skipped);
+        return new PriceRollbackResult(batchId, rollbackBatchId, restored, skipped);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PriceHistoryEntry> getHistory(long productId) {
+        return priceHistoryJdbcRepository.findByProductId(productId);
+    }
+
+    /**
+     * at 시점 가격 (전체 이력을 읽지 않고 인덱스로 필요한 행만 조회)
+     * - at 이전 마지막 변경의 변경 후 가격
+     * - 첫 이력 이전 시점은 첫 이력의 변경 전 가격 (기록 전 가격을 모르면 empty)
+     * - 이력이 없으면 현재 가격
+     */
+    @Transactional(readOnly = true)
+    public Optional<Money> getPriceAsOf(long productId, LocalDateTime at) {
+        Optional<PriceHistoryEntry> latest = priceHistoryJdbcRepository.findLatestAtOrBefore(productId, at);
+        if (latest.isPresent()) {
+            return Optional.ofNullable(latest.get().newPrice());
+        }
+        Optional<PriceHistoryEntry> earliest = priceHistoryJdbcRepository.findEarliest(productId);
+        if (earliest.isPresent()) {
+            return Optional.ofNullable(earliest.get().oldPrice());
+        }
+        return productRepository.findPriceById(productId);
+    }
+}
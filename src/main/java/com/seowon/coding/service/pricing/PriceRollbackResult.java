@@ -0,0 +1,10 @@
+package com.seowon.coding.service.pricing;
+
+/**
+ * 일괄 가격 변경 되돌리기 결과
+ *
+ * @param rollbackBatchId 되돌린 변경도 이력에 새 batch 로 기록됨 (다시 되돌릴 수 있음)
+ * @param skipped         이후 가격이 다시 바뀌어 되돌리지 않은 상품 수
+ */
+public record PriceRollbackResult(String batchId, String rollbackBatchId, long restored, long skipped) {
+}
@@ -0,0 +1,42 @@
+package com.seowon.coding.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 일괄 작업의 트랜잭션 단위 처리 (청크, 파티션, skip)
+ */
+@Name("com.seowon.coding.JobChunk")
+@Label("Job Chunk")
+@Category({"Coding", "Job"})
+@StackTrace(false)
+public class JobChunkEvent extends Event {
+
+    @Label("Job Id")
+    String jobId;
+
+    @Label("Kind")
+    String kind;
+
+    @Label("Orders")
+    int orders;
+
+    @Label("First Order Id")
+    long firstOrderId;
+
+    public static JobChunkEvent begin(String jobId, String kind) {
+        JobChunkEvent event = new JobChunkEvent();
+        event.jobId = jobId;
+        event.kind = kind;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int orders, long firstOrderId) {
+        end();
+        if (shouldCommit()) {
+            this.orders = orders;
+            this.firstOrderId = firstOrderId;
+            commit();
+        }
+    }
+}
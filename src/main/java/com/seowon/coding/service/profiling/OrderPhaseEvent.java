@@ -0,0 +1,38 @@
+package com.seowon.coding.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 주문 처리 단계별 소요 시간 (placeOrder, checkout 의 상품 조회/재고 차감/저장 등)
+ */
+@Name("com.seowon.coding.OrderPhase")
+@Label("Order Phase")
+@Category({"Coding", "Order"})
+@StackTrace(false)
+public class OrderPhaseEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Items")
+    int items;
+
+    public static OrderPhaseEvent begin(String operation, String phase) {
+        OrderPhaseEvent event = new OrderPhaseEvent();
+        event.operation = operation;
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+
+    public void finish(int items) {
+        end();
+        if (shouldCommit()) {
+            this.items = items;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.seowon.coding.service.profiling;
+
+import jdk.jfr.*;
+
+/**
+ * 배송비/할인 정책을 적용한 주문 합계 계산
+ */
+@Name("com.seowon.coding.PolicyEvaluation")
+@Label("Policy Evaluation")
+@Category({"Coding", "Order"})
+@StackTrace(false)
+public class PolicyEvaluationEvent extends Event {
+
+    @Label("Shipping Policy")
+    String shippingPolicy;
+
+    @Label("Discount Policy")
+    String discountPolicy;
+
+    @Label("Coupon Applied")
+    boolean couponApplied;
+
+    @Label("Total (minor units)")
+    long totalMinorUnits;
+
+    public static PolicyEvaluationEvent begin(Object shippingPolicy, Object discountPolicy, String couponCode) {
+        PolicyEvaluationEvent event = new PolicyEvaluationEvent();
+        if (event.isEnabled()) {
+            event.shippingPolicy = shippingPolicy.getClass().getSimpleName();
+            event.discountPolicy = discountPolicy.getClass().getSimpleName();
+            event.couponApplied = couponCode != null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public void finish(long totalMinorUnits) {
+        end();
+        if (shouldCommit()) {
+            this.totalMinorUnits = totalMinorUnits;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.seowon.coding.service.profiling;
+
+import java.util.List;
+
+/**
+ * JFR 녹화 요약
+ * @param hotMethods 실행 샘플의 최상위 프레임 기준 (self)
+ * @param hotApplicationMethods 스택 안에 한 번이라도 나온 애플리케이션(com.seowon) 메소드 기준 (inclusive)
+ * @param allocationsByClass 할당 샘플 가중치(추정 바이트) 기준
+ * @param allocationsBySite 가장 가까운 애플리케이션 프레임 기준
+ * @param events 커스텀 이벤트(주문 단계, 정책 계산, 작업 청크)의 건수/소요 시간
+ */
+public record ProfileReport(long recordingId,
+                            long durationMillis,
+                            long executionSamples,
+                            List<Entry> hotMethods,
+                            List<Entry> hotApplicationMethods,
+                            List<Entry> allocationsByClass,
+                            List<Entry> allocationsBySite,
+                            List<EventStat> events) {
+
+    public record Entry(String name, long value, double percent) {
+    }
+
+    public record EventStat(String event, String key, long count, double totalMillis, double maxMillis) {
+    }
+}
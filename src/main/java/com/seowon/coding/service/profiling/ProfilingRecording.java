@@ -0,0 +1,11 @@
+package com.seowon.coding.service.profiling;
+
+import java.time.Instant;
+
+public record ProfilingRecording(long id,
+                                 String settings,
+                                 String state,
+                                 Instant startedAt,
+                                 long maxDurationSeconds,
+                                 long sizeBytes) {
+}
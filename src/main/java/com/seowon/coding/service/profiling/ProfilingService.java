@@ -0,0 +1,238 @@
+package com.seowon.coding.service.profiling;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.*;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 실행 중인 프로세스에서 JFR 녹화를 시작/중지하고 요약 보고서를 만듦
+ * - 한 번에 하나의 녹화만 실행 (기본 설정 "profile": 실행/할당 샘플링, 오버헤드 약 2% 이하)
+ * - 녹화는 maxDuration 이 지나면 자동 중지되며, 파일은 directory 에 최근 keep 개만 보관
+ */
+@Slf4j
+@Service
+public class ProfilingService {
+
+    private static final String APPLICATION_PACKAGE = "com.seowon.coding.";
+    private static final int TOP = 20;
+    private static final List<Class<? extends jdk.jfr.Event>> CUSTOM_EVENTS =
+            List.of(OrderPhaseEvent.class, PolicyEvaluationEvent.class, JobChunkEvent.class);
+
+    private final Path directory;
+    private final Duration maxDuration;
+    private final int keep;
+    private final Duration eventThreshold;
+
+    private final NavigableMap<Long, Recording> recordings = new TreeMap<>();
+    private final Map<Long, ProfileReport> reports = new HashMap<>();
+
+    public ProfilingService(@Value("${app.profiling.directory:${java.io.tmpdir}/coding-jfr}") Path directory,
+                            @Value("${app.profiling.max-duration:10m}") Duration maxDuration,
+                            @Value("${app.profiling.keep:5}") int keep,
+                            @Value("${app.profiling.event-threshold:0ms}") Duration eventThreshold) {
+        if (keep < 1) {
+            throw new IllegalArgumentException("app.profiling.keep must be at least 1: " + keep);
+        }
+        this.directory = directory;
+        this.maxDuration = maxDuration;
+        this.keep = keep;
+        this.eventThreshold = eventThreshold;
+    }
+
+    /**
+     * @param duration 녹화 시간 (null 이면 maxDuration). 0 이하면 IllegalArgumentException
+     */
+    public synchronized ProfilingRecording start(String settings, Duration duration) throws IOException, ParseException {
+        if (duration != null && (duration.isZero() || duration.isNegative())) {
+            throw new IllegalArgumentException("Recording duration must be positive: " + duration);
+        }
+        if (recordings.values().stream().anyMatch(r -> r.getState() == RecordingState.RUNNING)) {
+            throw new IllegalStateException("A recording is already running");
+        }
+        evictOldRecordings();
+        Files.createDirectories(directory);
+
+        Recording recording = new Recording(Configuration.getConfiguration(settings));
+        CUSTOM_EVENTS.forEach(type -> recording.enable(type).withThreshold(eventThreshold));
+        recording.setName("coding-" + settings);
+        recording.setToDisk(true);
+        recording.setDuration(duration == null || duration.compareTo(maxDuration) > 0 ? maxDuration : duration);
+        recording.setDestination(directory.resolve("recording-" + recording.getId() + ".jfr"));
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        log.info("JFR recording {} started ({}, {})", recording.getId(), settings, recording.getDuration());
+        return describe(recording);
+    }
+
+    public synchronized ProfileReport stop(long id) throws IOException {
+        Recording recording = find(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            // destination 이 지정되어 있으므로 stop 시 파일로 기록됨
+            recording.stop();
+            log.info("JFR recording {} stopped", id);
+        }
+        return report(id);
+    }
+
+    public synchronized ProfileReport report(long id) throws IOException {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.STOPPED && recording.getState() != RecordingState.CLOSED) {
+            throw new IllegalStateException("Recording " + id + " is " + recording.getState());
+        }
+        ProfileReport report = reports.get(id);
+        if (report == null) {
+            report = summarize(id, recording.getDestination());
+            reports.put(id, report);
+        }
+        return report;
+    }
+
+    public synchronized Path file(long id) {
+        Recording recording = find(id);
+        if (recording.getState() != RecordingState.STOPPED && recording.getState() != RecordingState.CLOSED) {
+            throw new IllegalStateException("Recording " + id + " is " + recording.getState());
+        }
+        return recording.getDestination();
+    }
+
+    public synchronized List<ProfilingRecording> list() {
+        return recordings.values().stream().map(this::describe).toList();
+    }
+
+    private Recording find(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new NoSuchElementException("Recording not found: " + id);
+        }
+        return recording;
+    }
+
+    private void evictOldRecordings() throws IOException {
+        while (recordings.size() >= keep) {
+            Map.Entry<Long, Recording> oldest = recordings.pollFirstEntry();
+            reports.remove(oldest.getKey());
+            Path file = oldest.getValue().getDestination();
+            oldest.getValue().close();
+            if (file != null) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    private ProfilingRecording describe(Recording recording) {
+        Path file = recording.getDestination();
+        long size = 0;
+        try {
+            if (recording.getState() != RecordingState.RUNNING && file != null && Files.exists(file)) {
+                size = Files.size(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ProfilingRecording(recording.getId(), recording.getName().substring("coding-".length()),
+                recording.getState().name(), recording.getStartTime(),
+                recording.getDuration() == null ? 0 : recording.getDuration().toSeconds(), size);
+    }
+
+    static ProfileReport summarize(long id, Path file) throws IOException {
+        Map<String, Long> selfSamples = new HashMap<>();
+        Map<String, Long> applicationSamples = new HashMap<>();
+        Map<String, Long> allocationsByClass = new HashMap<>();
+        Map<String, Long> allocationsBySite = new HashMap<>();
+        Map<String, long[]> eventStats = new TreeMap<>(); // count, total nanos, max nanos
+        long samples = 0;
+        long allocated = 0;
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+
+        try (RecordingFile recordingFile = new RecordingFile(file)) {
+            while (recordingFile.hasMoreEvents()) {
+                RecordedEvent event = recordingFile.readEvent();
+                first = Math.min(first, event.getStartTime().toEpochMilli());
+                last = Math.max(last, event.getEndTime().toEpochMilli());
+                String type = event.getEventType().getName();
+                switch (type) {
+                    case "jdk.ExecutionSample" -> {
+                        List<RecordedFrame> frames = frames(event);
+                        if (frames.isEmpty()) {
+                            continue;
+                        }
+                        samples++;
+                        selfSamples.merge(methodName(frames.get(0)), 1L, Long::sum);
+                        frames.stream()
+                                .map(ProfilingService::methodName)
+                                .filter(name -> name.startsWith(APPLICATION_PACKAGE))
+                                .distinct()
+                                .forEach(name -> applicationSamples.merge(name, 1L, Long::sum));
+                    }
+                    case "jdk.ObjectAllocationSample" -> {
+                        long weight = event.getLong("weight");
+                        allocated += weight;
+                        RecordedClass objectClass = event.getClass("objectClass");
+                        allocationsByClass.merge(objectClass == null ? "?" : objectClass.getName(), weight, Long::sum);
+                        frames(event).stream()
+                                .map(ProfilingService::methodName)
+                                .filter(name -> name.startsWith(APPLICATION_PACKAGE))
+                                .findFirst()
+                                .ifPresent(site -> allocationsBySite.merge(site, weight, Long::sum));
+                    }
+                    case "com.seowon.coding.OrderPhase" -> record(eventStats, event, event.getString("operation") + "/" + event.getString("phase"));
+                    case "com.seowon.coding.PolicyEvaluation" -> record(eventStats, event, event.getString("shippingPolicy") + "+" + event.getString("discountPolicy"));
+                    case "com.seowon.coding.JobChunk" -> record(eventStats, event, event.getString("kind"));
+                    default -> {
+                    }
+                }
+            }
+        }
+
+        List<ProfileReport.EventStat> events = eventStats.entrySet().stream()
+                .map(e -> {
+                    String[] key = e.getKey().split("\\|", 2);
+                    long[] stat = e.getValue();
+                    return new ProfileReport.EventStat(key[0], key[1], stat[0], stat[1] / 1e6, stat[2] / 1e6);
+                })
+                .toList();
+        return new ProfileReport(id, first == Long.MAX_VALUE ? 0 : last - first, samples,
+                top(selfSamples, samples), top(applicationSamples, samples),
+                top(allocationsByClass, allocated), top(allocationsBySite, allocated), events);
+    }
+
+    private static void record(Map<String, long[]> stats, RecordedEvent event, String key) {
+        long nanos = event.getDuration().toNanos();
+        long[] stat = stats.computeIfAbsent(event.getEventType().getLabel() + "|" + key, k -> new long[3]);
+        stat[0]++;
+        stat[1] += nanos;
+        stat[2] = Math.max(stat[2], nanos);
+    }
+
+    private static List<RecordedFrame> frames(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        return stackTrace == null ? List.of() : stackTrace.getFrames();
+    }
+
+    private static String methodName(RecordedFrame frame) {
+        RecordedMethod method = frame.getMethod();
+        return method.getType().getName() + "." + method.getName();
+    }
+
+    private static List<ProfileReport.Entry> top(Map<String, Long> values, long total) {
+        return values.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(TOP)
+                .map(e -> new ProfileReport.Entry(e.getKey(), e.getValue(), total == 0 ? 0 : e.getValue() * 100.0 / total))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,252 @@
+package com.seowon.coding.service.reconcile;
+
+import com.seowon.coding.domain.model.*;
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 합계(orders.total_amount) 일괄 검증/보정
+ * - [min id, max id] 구간을 fork-join 으로 반씩 나누고, partition-size 이하가 된 구간을 각 작업자가 JDBC 로 스트리밍하여 재계산
+ * - 재계산은 도메인(Order.recalculateTotalAmount)을 그대로 사용하므로 합계 규칙이 한 곳에만 있음
+ * - 주문마다 저장된 계산 기준(pricing_basis)과 쿠폰으로 재계산하며, 기준이 없는(알 수 없는) 주문은 비교/보정하지 않고 unknownBasis 로만 집계
+ * - fix 이면 구간마다 불일치 행을 batch UPDATE 하며, 읽은 뒤 다른 트랜잭션이 합계를 바꾼 행은 건너뜀 (order_timeline 합계도 같은 트랜잭션에서 보정)
+ * - 작업자마다 커넥션 하나를 사용하므로 parallelism 은 커넥션 풀 크기보다 작게 설정
+ */
+@Slf4j
+@Service
+public class OrderTotalReconciler {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShippingPolicy shippingPolicy;
+    private final DiscountPolicy discountPolicy;
+    private final int parallelism;
+    private final long partitionSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    static final Set<Order.OrderStatus> OPEN_STATUSES = EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.PROCESSING);
+
+    public OrderTotalReconciler(JdbcTemplate jdbcTemplate,
+                                OrderTimelineJdbcRepository orderTimelineJdbcRepository,
+                                PlatformTransactionManager transactionManager,
+                                ShippingPolicy shippingPolicy,
+                                DiscountPolicy discountPolicy,
+                                @Value("${app.reconcile.parallelism:0}") int parallelism,
+                                @Value("${app.reconcile.partition-size:5000}") long partitionSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderTimelineJdbcRepository = orderTimelineJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shippingPolicy = shippingPolicy;
+        this.discountPolicy = discountPolicy;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.partitionSize = partitionSize;
+    }
+
+    /**
+     * 정책 변경 후 미결 주문(PENDING/PROCESSING)의 합계를 현재 정책으로 다시 계산하여 저장
+     * - POLICIES 기준 주문만 배송비/할인이 다시 계산되고, ITEMS 기준 주문은 항목 합계 그대로 유지됨
+     */
+    public ReconciliationResult repriceOpenOrders() {
+        return reconcile(OPEN_STATUSES, true);
+    }
+
+    /**
+     * @param statuses 비어 있으면 전체 주문
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public ReconciliationResult reconcile(Set<Order.OrderStatus> statuses, boolean fix) {
+        return reconcile(statuses, fix, null, null);
+    }
+
+    /**
+     * @param fromId null 이면 최소 id 부터
+     * @param toId   null 이면 최대 id 까지
+     * @throws IllegalStateException 이미 실행 중인 경우
+     */
+    public ReconciliationResult reconcile(Set<Order.OrderStatus> statuses, boolean fix, Long fromId, Long toId) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Reconciliation already running");
+        }
+        try {
+            return doReconcile(statuses, fix, fromId, toId);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private ReconciliationResult doReconcile(Set<Order.OrderStatus> statuses, boolean fix, Long fromId, Long toId) {
+        Map<String, Object> range = jdbcTemplate.queryForMap("SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM orders");
+        if (range.get("min_id") == null) {
+            return ReconciliationResult.empty();
+        }
+        long minId = Math.max(((Number) range.get("min_id")).longValue(), fromId == null ? Long.MIN_VALUE : fromId);
+        long maxId = Math.min(((Number) range.get("max_id")).longValue(), toId == null ? Long.MAX_VALUE : toId);
+        if (minId > maxId) {
+            return ReconciliationResult.empty();
+        }
+
+        long started = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ReconciliationResult result = pool.invoke(new RangeTask(statusFilter(statuses), fix, minId, maxId));
+            log.info("Reconciled {} orders (fix={}) in {} ms on {} workers: {} mismatched, {} fixed, {} with unknown basis",
+                    result.scanned(), fix, (System.nanoTime() - started) / 1_000_000, parallelism,
+                    result.mismatched(), result.fixed(), result.unknownBasis());
+            return result;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private final class RangeTask extends RecursiveTask<ReconciliationResult> {
+
+        private final String statusFilter;
+        private final boolean fix;
+        private final long from;
+        private final long to;
+
+        RangeTask(String statusFilter, boolean fix, long from, long to) {
+            this.statusFilter = statusFilter;
+            this.fix = fix;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected ReconciliationResult compute() {
+            if (to - from < partitionSize) {
+                return reconcileRange(statusFilter, fix, from, to);
+            }
+            long mid = from + (to - from) / 2;
+            RangeTask left = new RangeTask(statusFilter, fix, from, mid);
+            RangeTask right = new RangeTask(statusFilter, fix, mid + 1, to);
+            left.fork();
+            ReconciliationResult rightResult = right.compute();
+            return left.join().merge(rightResult);
+        }
+    }
+
+    ReconciliationResult reconcileRange(String statusFilter, boolean fix, long from, long to) {
+        List<Object[]> updates = new ArrayList<>();
+        List<ReconciliationResult.Mismatch> samples = new ArrayList<>();
+        long[] counts = new long[3]; // scanned, mismatched, unknown basis
+        OrderAccumulator current = new OrderAccumulator();
+
+        jdbcTemplate.query(
+                "SELECT o.id, o.total_amount, o.pricing_basis, o.coupon_code, i.quantity, i.price " +
+                        "FROM orders o LEFT JOIN order_item i ON i.order_id = o.id " +
+                        "WHERE o.id BETWEEN ? AND ?" + statusFilter + " ORDER BY o.id",
+                (RowCallbackHandler) rs -> {
+                    long orderId = rs.getLong(1);
+                    if (current.orderId != orderId) {
+                        current.finish(counts, samples, updates);
+                        String basis = rs.getString(3);
+                        current.start(orderId, rs.getBigDecimal(2),
+                                basis == null ? null : Order.PricingBasis.valueOf(basis), rs.getString(4));
+                    }
+                    BigDecimal price = rs.getBigDecimal(6);
+                    if (price != null) {
+                        current.items.add(OrderItem.builder().quantity(rs.getInt(5)).price(Money.of(price)).build());
+                    }
+                },
+                from, to);
+        current.finish(counts, samples, updates);
+
+        long fixed = 0;
+        if (fix && !updates.isEmpty()) {
+            Integer applied = transactionTemplate.execute(status -> {
+                int[][] results = jdbcTemplate.batchUpdate(
+                        "UPDATE orders SET total_amount = ? WHERE id = ? AND total_amount IS NOT DISTINCT FROM ?",
+                        updates, updates.size(),
+                        (ps, update) -> {
+                            ps.setBigDecimal(1, (BigDecimal) update[1]);
+                            ps.setLong(2, (Long) update[0]);
+                            ps.setBigDecimal(3, (BigDecimal) update[2]);
+                        });
+                Map<Long, Money> totals = new HashMap<>();
+                int index = 0;
+                for (int[] batch : results) {
+                    for (int updated : batch) {
+                        // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2)
+                        if (updated == 1 || updated == java.sql.Statement.SUCCESS_NO_INFO) {
+                            Object[] update = updates.get(index);
+                            totals.put((Long) update[0], update[1] == null ? null : Money.of((BigDecimal) update[1]));
+                        }
+                        index++;
+                    }
+                }
+                orderTimelineJdbcRepository.updateTotals(totals);
+                return totals.size();
+            });
+            fixed = applied == null ? 0 : applied;
+        }
+        return new ReconciliationResult(counts[0], counts[1], fixed, counts[2], samples);
+    }
+
+    private final class OrderAccumulator {
+        private long orderId = Long.MIN_VALUE;
+        private BigDecimal storedAmount;
+        private Order.PricingBasis basis;
+        private String couponCode;
+        private final List<OrderItem> items = new ArrayList<>();
+
+        void start(long orderId, BigDecimal storedAmount, Order.PricingBasis basis, String couponCode) {
+            this.orderId = orderId;
+            this.storedAmount = storedAmount;
+            this.basis = basis;
+            this.couponCode = couponCode;
+            this.items.clear();
+        }
+
+        void finish(long[] counts, List<ReconciliationResult.Mismatch> samples, List<Object[]> updates) {
+            if (orderId == Long.MIN_VALUE) {
+                return;
+            }
+            counts[0]++;
+            if (basis == null) {
+                // 어떤 규칙으로 계산된 합계인지 모르므로 올바른 합계를 덮어쓰지 않도록 건너뜀
+                counts[2]++;
+                orderId = Long.MIN_VALUE;
+                return;
+            }
+            Order order = Order.builder().items(new ArrayList<>(items)).totalAmount(Money.zero()).build();
+            order.recalculateTotalAmount();
+            if (basis == Order.PricingBasis.POLICIES) {
+                order.recalculateTotalAmount(shippingPolicy, discountPolicy, couponCode);
+            }
+            Money expected = order.getTotalAmount();
+            Money stored = storedAmount == null ? null : Money.of(storedAmount);
+
+            if (!expected.equals(stored)) {
+                counts[1]++;
+                if (samples.size() < ReconciliationResult.MAX_SAMPLES) {
+                    samples.add(new ReconciliationResult.Mismatch(orderId, stored, expected));
+                }
+                updates.add(new Object[]{orderId, expected.toBigDecimal(), storedAmount});
+            }
+            orderId = Long.MIN_VALUE;
+        }
+    }
+
+    private static String statusFilter(Set<Order.OrderStatus> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return "";
+        }
+        // enum 이름만 사용하므로 SQL 에 직접 넣어도 안전
+        return " AND o.status IN (" + statuses.stream().map(s -> "'" + s.name() + "'").sorted().collect(Collectors.joining(",")) + ")";
+    }
+}
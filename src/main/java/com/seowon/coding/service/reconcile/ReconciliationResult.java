@@ -0,0 +1,40 @@
+package com.seowon.coding.service.reconcile;
+
+import com.seowon.coding.domain.model.Money;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 합계 검증/보정 결과. 파티션별 결과를 merge 로 합침
+ * - unknownBasis: 계산 기준이 저장되지 않아 비교/보정하지 않은 주문 수 (scanned 에 포함)
+ */
+public record ReconciliationResult(long scanned,
+                                   long mismatched,
+                                   long fixed,
+                                   long unknownBasis,
+                                   List<Mismatch> samples) {
+
+    // 응답 크기를 제한하기 위해 불일치 상세는 앞부분만 보고
+    static final int MAX_SAMPLES = 1000;
+
+    public record Mismatch(long orderId, Money stored, Money expected) {
+    }
+
+    static ReconciliationResult empty() {
+        return new ReconciliationResult(0, 0, 0, 0, List.of());
+    }
+
+    ReconciliationResult merge(ReconciliationResult other) {
+        List<Mismatch> merged = new ArrayList<>(Math.min(MAX_SAMPLES, samples.size() + other.samples.size()));
+        merged.addAll(samples);
+        for (Mismatch mismatch : other.samples) {
+            if (merged.size() >= MAX_SAMPLES) {
+                break;
+            }
+            merged.add(mismatch);
+        }
+        return new ReconciliationResult(scanned + other.scanned, mismatched + other.mismatched, fixed + other.fixed,
+                unknownBasis + other.unknownBasis, merged);
+    }
+}
@@ -0,0 +1,133 @@
+package com.seowon.coding.service.timeline;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.repository.OrderTimelineEntry;
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔티티로 생성/변경/삭제된 주문을 같은 트랜잭션에서 order_timeline 에 반영
+ * - 트랜잭션 동안 바뀐 주문을 세션별로 모아, 커밋 직전(flush 이후) 한 번에 JDBC batch 로 기록
+ * - 기록 시점의 엔티티 값을 쓰므로 한 트랜잭션에서 여러 번 바뀐 주문도 한 번만 기록
+ * - 항목 컬렉션이 로딩되지 않은 주문은 항목 수를 바꾸지 않음 (조회를 일으키지 않기 위함)
+ */
+@Component
+@Lazy(false)
+@RequiredArgsConstructor
+public class OrderTimelineListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final transient EntityManagerFactory entityManagerFactory;
+    private final transient OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+    private final transient Map<EventSource, PendingChanges> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Order order) {
+            changes(event.getSession()).inserted.put(order.getId(), order);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Order order) {
+            PendingChanges changes = changes(event.getSession());
+            if (!changes.inserted.containsKey(order.getId())) {
+                changes.updated.put(order.getId(), order);
+            }
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Order) {
+            PendingChanges changes = changes(event.getSession());
+            Long id = (Long) event.getId();
+            changes.inserted.remove(id);
+            changes.updated.remove(id);
+            changes.deleted.add(id);
+        }
+    }
+
+    private PendingChanges changes(EventSource session) {
+        return pending.computeIfAbsent(session, s -> {
+            PendingChanges changes = new PendingChanges();
+            s.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) beforeCompletion -> {
+                if (!changes.completed) {
+                    changes.write();
+                }
+            });
+            // 롤백되면 쓰지 않고 버림 (롤백 시에는 커밋 직전 처리가 큐에 남을 수 있으므로 completed 로 막음)
+            s.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, afterCompletion) -> {
+                changes.completed = true;
+                pending.remove(s);
+            });
+            return changes;
+        });
+    }
+
+    private final class PendingChanges {
+        private final Map<Long, Order> inserted = new LinkedHashMap<>();
+        private final Map<Long, Order> updated = new LinkedHashMap<>();
+        private final List<Long> deleted = new ArrayList<>();
+        private volatile boolean completed;
+
+        void write() {
+            List<OrderTimelineEntry> inserts = new ArrayList<>(inserted.size());
+            List<OrderTimelineEntry> upserts = new ArrayList<>(updated.size());
+            List<Long> deletes = new ArrayList<>(deleted);
+            inserted.values().forEach(order -> collect(order, inserts, deletes));
+            updated.values().forEach(order -> collect(order, upserts, deletes));
+            orderTimelineJdbcRepository.deleteByOrderIds(deletes);
+            orderTimelineJdbcRepository.insert(inserts);
+            orderTimelineJdbcRepository.upsert(upserts);
+        }
+
+        private void collect(Order order, List<OrderTimelineEntry> target, List<Long> deletes) {
+            if (order.getCustomerEmail() == null) {
+                // 고객 없는 주문은 목록에 두지 않음
+                deletes.add(order.getId());
+                return;
+            }
+            target.add(new OrderTimelineEntry(
+                    order.getId(),
+                    order.getCustomerEmail(),
+                    order.getOrderDate() == null ? LocalDateTime.now() : order.getOrderDate(),
+                    order.getStatus(),
+                    order.getTotalAmount(),
+                    Hibernate.isInitialized(order.getItems()) ? order.getItems().size() : null));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.seowon.coding.service.timeline;
+
+import com.seowon.coding.domain.repository.OrderTimelineEntry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고객 주문 목록 한 페이지 (최신순). 다음 페이지는 nextBeforeDate/nextBeforeId 로 요청하며 마지막 페이지면 둘 다 null
+ */
+public record OrderTimelinePage(List<OrderTimelineEntry> orders, LocalDateTime nextBeforeDate, Long nextBeforeId) {
+}
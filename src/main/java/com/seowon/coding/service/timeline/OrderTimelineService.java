@@ -0,0 +1,43 @@
+package com.seowon.coding.service.timeline;
+
+import com.seowon.coding.domain.repository.OrderTimelineEntry;
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 고객별 주문 목록 조회 (order_timeline 만 읽으며 주문/항목/상품을 로딩하지 않음)
+ * - 한 건 더 읽어 다음 페이지 존재 여부를 판단하고, 마지막 항목의 (주문일, id)를 다음 페이지 기준으로 반환
+ */
+@Service
+@RequiredArgsConstructor
+public class OrderTimelineService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    private final OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+
+    @Transactional(readOnly = true)
+    public OrderTimelinePage getTimeline(String customerEmail, LocalDateTime beforeDate, Long beforeId, int size) {
+        if (customerEmail == null || customerEmail.isBlank()) {
+            throw new IllegalArgumentException("customer email required");
+        }
+        if ((beforeDate == null) != (beforeId == null)) {
+            // 한쪽만 있으면 첫 페이지를 다시 주게 되므로 거부
+            throw new IllegalArgumentException("beforeDate and beforeId must be given together");
+        }
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<OrderTimelineEntry> entries =
+                orderTimelineJdbcRepository.findByCustomerEmail(customerEmail, beforeDate, beforeId, limit + 1);
+        if (entries.size() <= limit) {
+            return new OrderTimelinePage(entries, null, null);
+        }
+        List<OrderTimelineEntry> page = entries.subList(0, limit);
+        OrderTimelineEntry last = page.get(limit - 1);
+        return new OrderTimelinePage(List.copyOf(page), last.orderDate(), last.orderId());
+    }
+}
@@ -0,0 +1,181 @@
+package com.seowon.coding.support;
+
+import com.seowon.coding.domain.repository.OrderTimelineJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (seed 프로파일)
+ * - JPA 를 거치지 않고 JDBC batch 로 product / orders / order_item 을 생성
+ * - 실행 예: --spring.profiles.active=prod,seed --app.seed.products=100000 --app.seed.orders=1000000
+ * - 같은 seed 값이면 같은 데이터가 생성됨
+ * - PENDING 주문은 app.orders.pending-timeout 이내의 주문일로 생성 (기동 직후 만료 처리가 한꺼번에 취소하지 않도록)
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class DataSeeder implements ApplicationRunner {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String[] STATUSES = {"PENDING", "PROCESSING", "SHIPPED", "DELIVERED", "CANCELLED"};
+
+    private final DataSource dataSource;
+    private final OrderTimelineJdbcRepository orderTimelineJdbcRepository;
+
+    @Value("${app.seed.products:10000}")
+    private int productCount;
+
+    @Value("${app.seed.orders:100000}")
+    private int orderCount;
+
+    @Value("${app.seed.max-items-per-order:5}")
+    private int maxItemsPerOrder;
+
+    @Value("${app.seed.categories:20}")
+    private int categoryCount;
+
+    @Value("${app.seed.random-seed:42}")
+    private long randomSeed;
+
+    @Value("${app.orders.pending-timeout:30m}")
+    private Duration pendingTimeout;
+
+    @Override
+    public void run(ApplicationArguments args) throws SQLException {
+        SplittableRandom random = new SplittableRandom(randomSeed);
+        long started = System.nanoTime();
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            long[] productIds = seedProducts(connection, random);
+            long items = seedOrders(connection, random, productIds);
+            // 주문을 JDBC 로 직접 넣었으므로 고객 주문 목록은 한 번에 적재
+            int timeline = orderTimelineJdbcRepository.backfill();
+
+            log.info("Seeded {} products, {} orders, {} order items, {} timeline rows in {} ms",
+                    productCount, orderCount, items, timeline, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private long[] seedProducts(Connection connection, SplittableRandom random) throws SQLException {
+        long[] ids = new long[productCount];
+        String sql = "INSERT INTO product (name, description, price, stock_quantity, category, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        try (PreparedStatement ps = connection.prepareStatement(sql, new String[]{"id"})) {
+            int done = 0;
+            for (int i = 0; i < productCount; i++) {
+                ps.setString(1, "Product " + i);
+                ps.setString(2, "Seeded product " + i);
+                ps.setBigDecimal(3, BigDecimal.valueOf(random.nextLong(100, 100_000), 2));
+                ps.setInt(4, 1_000_000);
+                ps.setString(5, "Category-" + (i % categoryCount));
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0 || i == productCount - 1) {
+                    ps.executeBatch();
+                    done = collectKeys(ps, ids, done);
+                    connection.commit();
+                }
+            }
+        }
+        return ids;
+    }
+
+    private long seedOrders(Connection connection, SplittableRandom random, long[] productIds) throws SQLException {
+        String orderSql = "INSERT INTO orders (customer_name, customer_email, status, order_date, total_amount, pricing_basis) VALUES (?, ?, ?, ?, ?, 'ITEMS')";
+        String itemSql = "INSERT INTO order_item (order_id, product_id, quantity, price) VALUES (?, ?, ?, ?)";
+        LocalDateTime now = LocalDateTime.now();
+
+        // 배치 단위로 주문 내용을 미리 만든 뒤 주문 -> 생성된 id 로 항목 순서로 저장
+        int[][] batchProducts = new int[BATCH_SIZE][];
+        int[][] batchQuantities = new int[BATCH_SIZE][];
+        long[] batchPrices = new long[BATCH_SIZE * maxItemsPerOrder];
+        long[] orderIds = new long[BATCH_SIZE];
+        long itemCount = 0;
+
+        try (PreparedStatement orderPs = connection.prepareStatement(orderSql, new String[]{"id"});
+             PreparedStatement itemPs = connection.prepareStatement(itemSql)) {
+            int inBatch = 0;
+            for (int i = 0; i < orderCount; i++) {
+                int items = random.nextInt(1, maxItemsPerOrder + 1);
+                int[] products = new int[items];
+                int[] quantities = new int[items];
+                long total = 0;
+                for (int j = 0; j < items; j++) {
+                    products[j] = random.nextInt(productIds.length);
+                    quantities[j] = random.nextInt(1, 4);
+                    long price = random.nextLong(100, 100_000);
+                    batchPrices[inBatch * maxItemsPerOrder + j] = price;
+                    total += price * quantities[j];
+                }
+                batchProducts[inBatch] = products;
+                batchQuantities[inBatch] = quantities;
+
+                int customer = random.nextInt(Math.max(1, orderCount / 10));
+                orderPs.setString(1, "Customer " + customer);
+                orderPs.setString(2, "customer" + customer + "@example.com");
+                String status = STATUSES[random.nextInt(STATUSES.length)];
+                orderPs.setString(3, status);
+                orderPs.setTimestamp(4, Timestamp.valueOf(orderDate(random, now, status)));
+                orderPs.setBigDecimal(5, BigDecimal.valueOf(total, 2));
+                orderPs.addBatch();
+                inBatch++;
+
+                if (inBatch == BATCH_SIZE || i == orderCount - 1) {
+                    orderPs.executeBatch();
+                    collectKeys(orderPs, orderIds, 0);
+
+                    for (int b = 0; b < inBatch; b++) {
+                        for (int j = 0; j < batchProducts[b].length; j++) {
+                            itemPs.setLong(1, orderIds[b]);
+                            itemPs.setLong(2, productIds[batchProducts[b][j]]);
+                            itemPs.setInt(3, batchQuantities[b][j]);
+                            itemPs.setBigDecimal(4, BigDecimal.valueOf(batchPrices[b * maxItemsPerOrder + j], 2));
+                            itemPs.addBatch();
+                            itemCount++;
+                        }
+                    }
+                    itemPs.executeBatch();
+                    connection.commit();
+                    inBatch = 0;
+
+                    if ((i + 1) % (BATCH_SIZE * 100) == 0) {
+                        log.info("Seeded {} / {} orders", i + 1, orderCount);
+                    }
+                }
+            }
+        }
+        return itemCount;
+    }
+
+    private LocalDateTime orderDate(SplittableRandom random, LocalDateTime now, String status) {
+        if ("PENDING".equals(status)) {
+            return now.minusSeconds(random.nextLong(0, Math.max(1, pendingTimeout.toSeconds())));
+        }
+        return now.minusMinutes(random.nextLong(0, 60L * 24 * 365 * 3));
+    }
+
+    private static int collectKeys(PreparedStatement ps, long[] target, int offset) throws SQLException {
+        try (ResultSet keys = ps.getGeneratedKeys()) {
+            while (keys.next()) {
+                target[offset++] = keys.getLong(1);
+            }
+        }
+        return offset;
+    }
+}
@@ -0,0 +1,138 @@
+package com.seowon.coding.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 계층형 타이밍 휠 (long id 를 만료 시각에 꺼냄)
+ * - 레벨 L 의 슬롯 하나는 wheelSize^L tick 을 덮음. 만료 tick 과 현재 tick 의 차이로 레벨/슬롯을 정해 버킷 끝에 추가 (O(1))
+ * - advance 는 tick 마다 레벨 0 슬롯 하나를 만료시키고, 상위 레벨 슬롯은 경계에 도달하면 하위 레벨로 재분배
+ * - 레벨은 필요한 범위만큼 늘어남. 취소는 지원하지 않으므로 만료 시 호출측에서 상태를 다시 확인
+ * - 동기화하지 않으므로 호출측에서 잠금 필요
+ */
+public final class HierarchicalTimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final List<Bucket[]> levels = new ArrayList<>();
+    private final List<Long> slotSpans = new ArrayList<>();
+    // 이미 지난 시각으로 등록된 항목 (다음 advance 에서 바로 만료)
+    private final Bucket overdue = new Bucket();
+
+    private long currentTick;
+    private int size;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, long startMs) {
+        if (tickMs <= 0 || wheelSize < 2) {
+            throw new IllegalArgumentException("tickMs must be positive and wheelSize at least 2");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.currentTick = Math.floorDiv(startMs, tickMs);
+        addLevel();
+    }
+
+    /**
+     * deadlineMs 가 속한 tick 이 끝난 뒤(advance 의 nowMs 가 그 tick 에 도달한 뒤) 만료. 일찍 만료되는 일은 없음
+     */
+    public void schedule(long id, long deadlineMs) {
+        size++;
+        place(id, Math.floorDiv(deadlineMs + tickMs - 1, tickMs));
+    }
+
+    /**
+     * nowMs 까지 tick 을 진행하며 만료된 id 를 전달
+     * @return 만료된 항목 수
+     */
+    public int advance(long nowMs, LongConsumer expired) {
+        long targetTick = Math.floorDiv(nowMs, tickMs);
+        int fired = drain(overdue, expired);
+        while (currentTick < targetTick) {
+            if (size == 0) {
+                currentTick = targetTick;
+                break;
+            }
+            currentTick++;
+            // 상위 레벨부터 재분배해야 하위 레벨의 현재 슬롯까지 내려온 항목도 이번 tick 에 처리됨
+            for (int level = levels.size() - 1; level >= 1; level--) {
+                long span = slotSpans.get(level);
+                if (currentTick % span == 0) {
+                    cascade(levels.get(level)[slot(currentTick, span)]);
+                }
+            }
+            fired += drain(levels.get(0)[slot(currentTick, 1)], expired);
+            fired += drain(overdue, expired);
+        }
+        return fired;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    private void place(long id, long tick) {
+        if (tick <= currentTick) {
+            overdue.add(id, tick);
+            return;
+        }
+        long delta = tick - currentTick;
+        int level = 0;
+        long span = 1;
+        while (span <= delta / wheelSize) {
+            level++;
+            span *= wheelSize;
+            if (level == levels.size()) {
+                addLevel();
+            }
+        }
+        levels.get(level)[slot(tick, span)].add(id, tick);
+    }
+
+    private void cascade(Bucket bucket) {
+        for (int i = 0; i < bucket.size; i++) {
+            place(bucket.ids[i], bucket.ticks[i]);
+        }
+        bucket.size = 0;
+    }
+
+    private int drain(Bucket bucket, LongConsumer expired) {
+        int count = bucket.size;
+        for (int i = 0; i < count; i++) {
+            expired.accept(bucket.ids[i]);
+        }
+        bucket.size = 0;
+        size -= count;
+        return count;
+    }
+
+    private int slot(long tick, long span) {
+        return (int) ((tick / span) % wheelSize);
+    }
+
+    private void addLevel() {
+        Bucket[] buckets = new Bucket[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new Bucket();
+        }
+        slotSpans.add(levels.isEmpty() ? 1L : slotSpans.get(levels.size() - 1) * wheelSize);
+        levels.add(buckets);
+    }
+
+    private static final class Bucket {
+        private long[] ids = new long[4];
+        private long[] ticks = new long[4];
+        private int size;
+
+        void add(long id, long tick) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+                ticks = Arrays.copyOf(ticks, size * 2);
+            }
+            ids[size] = id;
+            ticks[size] = tick;
+            size++;
+        }
+    }
+}
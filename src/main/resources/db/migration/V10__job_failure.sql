@@ -0,0 +1,2 @@
+ALTER TABLE processing_status ADD COLUMN last_error VARCHAR(255);
+ALTER TABLE job_partition ADD COLUMN last_error VARCHAR(255);
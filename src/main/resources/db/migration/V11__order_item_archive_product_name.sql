@@ -0,0 +1,6 @@
+-- archive 된 주문 항목은 상품이 삭제되어도 표시할 수 있도록 상품명을 함께 보관
+ALTER TABLE order_item_archive ADD COLUMN product_name VARCHAR(255);
+
+UPDATE order_item_archive a
+SET product_name = (SELECT p.name FROM product p WHERE p.id = a.product_id)
+WHERE a.product_name IS NULL;
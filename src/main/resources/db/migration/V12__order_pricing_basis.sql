@@ -0,0 +1,3 @@
+-- 합계 계산 기준과 쿠폰. 기존 주문은 기준을 알 수 없으므로 NULL (합계 보정 대상에서 제외)
+ALTER TABLE orders ADD COLUMN pricing_basis VARCHAR(20);
+ALTER TABLE orders ADD COLUMN coupon_code VARCHAR(255);
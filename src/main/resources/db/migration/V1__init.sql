@@ -0,0 +1,43 @@
+CREATE TABLE product (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name           VARCHAR(255),
+    description    VARCHAR(255),
+    price          NUMERIC(38, 2),
+    stock_quantity INTEGER NOT NULL,
+    category       VARCHAR(255)
+);
+
+CREATE INDEX idx_product_category ON product (category);
+
+CREATE TABLE orders (
+    id             BIGINT AUTO_INCREMENT PRIMARY KEY,
+    customer_name  VARCHAR(255),
+    customer_email VARCHAR(255),
+    status         VARCHAR(20),
+    order_date     TIMESTAMP(6),
+    total_amount   NUMERIC(38, 2)
+);
+
+CREATE INDEX idx_orders_status ON orders (status);
+
+CREATE TABLE order_item (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    order_id   BIGINT,
+    product_id BIGINT,
+    quantity   INTEGER NOT NULL,
+    price      NUMERIC(38, 2),
+    CONSTRAINT fk_order_item_order FOREIGN KEY (order_id) REFERENCES orders (id),
+    CONSTRAINT fk_order_item_product FOREIGN KEY (product_id) REFERENCES product (id)
+);
+
+CREATE INDEX idx_order_item_order ON order_item (order_id);
+
+CREATE TABLE processing_status (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id     VARCHAR(255) NOT NULL,
+    total      INTEGER NOT NULL,
+    processed  INTEGER NOT NULL,
+    status     VARCHAR(20),
+    updated_at TIMESTAMP(6),
+    CONSTRAINT uk_processing_status_job_id UNIQUE (job_id)
+);
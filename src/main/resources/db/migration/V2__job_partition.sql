@@ -0,0 +1,15 @@
+CREATE TABLE job_partition (
+    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id       VARCHAR(255) NOT NULL,
+    partition_no INTEGER NOT NULL,
+    range_start  BIGINT,
+    range_end    BIGINT,
+    item_count   INTEGER NOT NULL,
+    status       VARCHAR(20),
+    owner        VARCHAR(255),
+    lease_until  TIMESTAMP(6),
+    heartbeat_at TIMESTAMP(6),
+    CONSTRAINT uk_job_partition_job_no UNIQUE (job_id, partition_no)
+);
+
+CREATE INDEX idx_job_partition_job_status ON job_partition (job_id, status);
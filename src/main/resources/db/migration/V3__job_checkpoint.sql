@@ -0,0 +1,9 @@
+ALTER TABLE processing_status ADD COLUMN last_processed_id BIGINT;
+ALTER TABLE processing_status ADD COLUMN skipped INTEGER DEFAULT 0 NOT NULL;
+
+CREATE TABLE job_item (
+    job_id   VARCHAR(255) NOT NULL,
+    order_id BIGINT NOT NULL,
+    skipped  BOOLEAN DEFAULT FALSE NOT NULL,
+    PRIMARY KEY (job_id, order_id)
+);
@@ -0,0 +1,4 @@
+ALTER TABLE product ADD COLUMN updated_at TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6);
+
+CREATE INDEX idx_product_updated_at ON product (updated_at);
+CREATE INDEX idx_product_category_updated_at ON product (category, updated_at);
@@ -0,0 +1,4 @@
+CREATE TABLE replica_heartbeat (
+    id      INTEGER PRIMARY KEY,
+    beat_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,26 @@
+CREATE INDEX idx_orders_status_order_date ON orders (status, order_date);
+
+CREATE TABLE orders_archive (
+    id             BIGINT PRIMARY KEY,
+    customer_name  VARCHAR(255),
+    customer_email VARCHAR(255),
+    status         VARCHAR(20),
+    order_date     TIMESTAMP(6),
+    total_amount   NUMERIC(38, 2),
+    archived_at    TIMESTAMP(6)
+);
+
+CREATE INDEX idx_orders_archive_order_date ON orders_archive (order_date);
+CREATE INDEX idx_orders_archive_email_date ON orders_archive (customer_email, order_date);
+CREATE INDEX idx_orders_archive_status_date ON orders_archive (status, order_date);
+
+CREATE TABLE order_item_archive (
+    id         BIGINT PRIMARY KEY,
+    order_id   BIGINT,
+    product_id BIGINT,
+    quantity   INTEGER NOT NULL,
+    price      NUMERIC(38, 2),
+    CONSTRAINT fk_order_item_archive_order FOREIGN KEY (order_id) REFERENCES orders_archive (id)
+);
+
+CREATE INDEX idx_order_item_archive_order ON order_item_archive (order_id);
@@ -0,0 +1,14 @@
+CREATE TABLE checkout_ticket (
+    id             VARCHAR(36) PRIMARY KEY,
+    customer_name  VARCHAR(255),
+    customer_email VARCHAR(255),
+    items          VARCHAR(4000),
+    status         VARCHAR(20),
+    owner          VARCHAR(255),
+    order_id       BIGINT,
+    error          VARCHAR(255),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6)
+);
+
+CREATE INDEX idx_checkout_ticket_status_updated_at ON checkout_ticket (status, updated_at);
@@ -0,0 +1,11 @@
+CREATE TABLE price_history (
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    product_id BIGINT       NOT NULL,
+    batch_id   VARCHAR(36),
+    old_price  NUMERIC(38, 2),
+    new_price  NUMERIC(38, 2),
+    changed_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_price_history_product_changed_at ON price_history (product_id, changed_at);
+CREATE INDEX idx_price_history_batch ON price_history (batch_id);
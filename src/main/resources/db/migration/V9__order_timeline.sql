@@ -0,0 +1,24 @@
+CREATE TABLE order_timeline (
+    order_id       BIGINT PRIMARY KEY,
+    customer_email VARCHAR(255)   NOT NULL,
+    order_date     TIMESTAMP(6)   NOT NULL,
+    status         VARCHAR(20),
+    total_amount   NUMERIC(38, 2),
+    item_count     INTEGER        NOT NULL
+);
+
+CREATE INDEX idx_order_timeline_customer_date ON order_timeline (customer_email, order_date DESC, order_id DESC);
+
+-- 기존 주문(운영 + archive) 적재
+INSERT INTO order_timeline (order_id, customer_email, order_date, status, total_amount, item_count)
+SELECT o.id, o.customer_email, COALESCE(o.order_date, CURRENT_TIMESTAMP(6)), o.status, o.total_amount,
+       (SELECT COUNT(*) FROM order_item i WHERE i.order_id = o.id)
+FROM orders o
+WHERE o.customer_email IS NOT NULL;
+
+INSERT INTO order_timeline (order_id, customer_email, order_date, status, total_amount, item_count)
+SELECT a.id, a.customer_email, COALESCE(a.order_date, a.archived_at), a.status, a.total_amount,
+       (SELECT COUNT(*) FROM order_item_archive i WHERE i.order_id = a.id)
+FROM orders_archive a
+WHERE a.customer_email IS NOT NULL
+  AND NOT EXISTS (SELECT 1 FROM order_timeline t WHERE t.order_id = a.id);
@@ -0,0 +1,31 @@
+package com.seowon.coding;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 운영 프로파일처럼 Flyway 로 만든 스키마가 엔티티 매핑과 일치하는지 확인 (불일치하면 ddl-auto=validate 로 기동 실패)
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:flyway-${random.uuid}",
+		"spring.flyway.enabled=true",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.jpa.defer-datasource-initialization=false",
+		"spring.sql.init.mode=never"
+})
+class FlywaySchemaTests {
+
+	@Autowired
+	private Flyway flyway;
+
+	@Test
+	void migrationsMatchEntityMappings() {
+		assertEquals(0, flyway.info().pending().length);
+		assertNotNull(flyway.info().current());
+	}
+
+}
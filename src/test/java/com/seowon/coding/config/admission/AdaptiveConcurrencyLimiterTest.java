@@ -0,0 +1,69 @@
+package com.seowon.coding.config.admission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @Test
+    void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 0, 100, 2.0);
+
+        AdaptiveConcurrencyLimiter.Result first = limiter.acquire();
+        AdaptiveConcurrencyLimiter.Result second = limiter.acquire();
+
+        assertTrue(first.isAdmitted());
+        assertFalse(second.isAdmitted());
+        assertEquals(AdaptiveConcurrencyLimiter.Rejection.QUEUE_FULL, second.rejection());
+        assertEquals(1, limiter.getRejected(AdaptiveConcurrencyLimiter.Rejection.QUEUE_FULL));
+    }
+
+    @Test
+    void queuedRequestTimesOut() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1, 20, 2.0);
+        limiter.acquire();
+
+        AdaptiveConcurrencyLimiter.Result waited = limiter.acquire();
+
+        assertEquals(AdaptiveConcurrencyLimiter.Rejection.TIMEOUT, waited.rejection());
+        assertEquals(0, limiter.getQueued());
+    }
+
+    @Test
+    void queuedRequestIsAdmittedOnRelease() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1, 5_000, 2.0);
+        AdaptiveConcurrencyLimiter.Permit holder = limiter.acquire().permit();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<AdaptiveConcurrencyLimiter.Result> waiting = executor.submit(limiter::acquire);
+        while (limiter.getQueued() == 0) {
+            Thread.onSpinWait();
+        }
+        holder.success();
+
+        assertTrue(waiting.get(1, TimeUnit.SECONDS).isAdmitted());
+        executor.shutdown();
+    }
+
+    @Test
+    void limitShrinksWhenLatencyRises() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(50, 4, 200, 0, 0, 1.0);
+
+        // 기준 응답 시간 학습
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire().permit().success();
+        }
+        int before = limiter.getLimit();
+
+        for (int i = 0; i < 20; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.acquire().permit();
+            Thread.sleep(5);
+            permit.success();
+        }
+
+        assertTrue(limiter.getLimit() < before, "limit should shrink: before=" + before + ", after=" + limiter.getLimit());
+    }
+}
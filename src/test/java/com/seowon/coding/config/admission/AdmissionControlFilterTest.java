@@ -0,0 +1,35 @@
+package com.seowon.coding.config.admission;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class AdmissionControlFilterTest {
+
+    @Autowired
+    private FilterRegistrationBean<AdmissionControlFilter> admissionControlFilter;
+
+    @Test
+    void routeKeyComesFromMappingPattern() {
+        AdmissionControlFilter filter = admissionControlFilter.getFilter();
+
+        assertEquals("PUT /api/orders/{id}", filter.resolveRoute(new MockHttpServletRequest("PUT", "/api/orders/42")));
+        assertEquals("PUT /api/orders/{id}", filter.resolveRoute(new MockHttpServletRequest("PUT", "/api/orders/abc")));
+        assertEquals("POST /api/orders/async", filter.resolveRoute(new MockHttpServletRequest("POST", "/api/orders/async")));
+    }
+
+    @Test
+    void unknownRoutesShareOneBucket() {
+        AdmissionControlFilter filter = admissionControlFilter.getFilter();
+
+        assertEquals(AdmissionControlFilter.UNMATCHED_ROUTE,
+                filter.resolveRoute(new MockHttpServletRequest("POST", "/api/orders/x1/y2")));
+        assertEquals(AdmissionControlFilter.UNMATCHED_ROUTE,
+                filter.resolveRoute(new MockHttpServletRequest("POST", "/api/products/" + System.nanoTime() + "/z")));
+    }
+}
@@ -0,0 +1,59 @@
+package com.seowon.coding.config.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ReadWriteRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        when(lagMonitor.isWithinTolerance()).thenReturn(true);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, new WriteStickiness(2_000));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.Route.REPLICA, routing.route());
+    }
+
+    @Test
+    void writeTransactionGoesToPrimary() {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, new WriteStickiness(2_000));
+
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.route());
+    }
+
+    @Test
+    void laggingReplicaIsBypassed() {
+        when(lagMonitor.isWithinTolerance()).thenReturn(false);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, new WriteStickiness(2_000));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.route());
+    }
+
+    @Test
+    void readAfterWriteStaysOnPrimary() {
+        when(lagMonitor.isWithinTolerance()).thenReturn(true);
+        WriteStickiness stickiness = new WriteStickiness(2_000);
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(lagMonitor, stickiness);
+        stickiness.markWrite();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals(ReadWriteRoutingDataSource.Route.PRIMARY, routing.route());
+    }
+}
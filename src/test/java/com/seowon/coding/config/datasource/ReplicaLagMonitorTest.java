@@ -0,0 +1,59 @@
+package com.seowon.coding.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 운영 프로파일과 같이 auto-commit 이 꺼진 풀에서 heartbeat 가 커밋되는지 확인
+ * (primary/replica 가 같은 DB 를 보므로 커밋된 heartbeat 는 바로 replica 에서 보임)
+ */
+class ReplicaLagMonitorTest {
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String url = "jdbc:h2:mem:lag-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        primary = dataSource(url);
+        replica = dataSource(url);
+        try (Connection connection = primary.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE replica_heartbeat (id INTEGER PRIMARY KEY, beat_at TIMESTAMP(6) NOT NULL)");
+            connection.commit();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void heartbeatIsCommittedWithAutoCommitOff() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(primary, replica, 1_000);
+
+        monitor.beat();
+        monitor.beat();
+
+        assertTrue(monitor.isWithinTolerance(), "lag " + monitor.getLagMillis());
+        assertTrue(monitor.getLagMillis() < 1_000);
+    }
+
+    private static HikariDataSource dataSource(String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername("sa");
+        dataSource.setAutoCommit(false);
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
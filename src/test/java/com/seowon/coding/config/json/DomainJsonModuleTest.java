@@ -0,0 +1,97 @@
+package com.seowon.coding.config.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DomainJsonModuleTest {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void writesOrderWithItemsWithoutBackReference() throws Exception {
+        Product product = Product.builder().id(7L).name("Keyboard").price(Money.of("30.00")).stockQuantity(3)
+                .category("devices").updatedAt(LocalDateTime.of(2025, 1, 2, 3, 4, 0)).build();
+        Order order = Order.create("customer", "json@example.com", LocalDateTime.of(2025, 1, 2, 3, 4, 5));
+        order.setId(1L);
+        order.addItem(OrderItem.builder().id(10L).product(product).quantity(2).price(product.getPrice()).build());
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(order));
+
+        assertEquals("PENDING", json.get("status").asText());
+        assertEquals("2025-01-02T03:04:05", json.get("orderDate").asText());
+        assertEquals("60.00", json.get("totalAmount").decimalValue().toPlainString());
+        JsonNode item = json.get("items").get(0);
+        assertFalse(item.has("order"));
+        assertEquals("60.00", item.get("subtotal").decimalValue().toPlainString());
+        assertEquals("2025-01-02T03:04:00", item.get("product").get("updatedAt").asText());
+        assertTrue(item.get("product").get("inStock").asBoolean());
+    }
+
+    @Test
+    void orderLoadedForResponseAlwaysHasItems() throws Exception {
+        Product product = productRepository.save(Product.builder()
+                .name("graph").price(Money.of("5.00")).stockQuantity(1).category("test").build());
+        Long orderId = transactionTemplate.execute(status -> {
+            Order order = Order.create("customer", "graph@example.com", LocalDateTime.now());
+            order.addItem(OrderItem.builder().product(product).quantity(2).price(product.getPrice()).build());
+            return orderRepository.save(order).getId();
+        });
+
+        // 트랜잭션 밖에서 직렬화해도 entity graph 로 조회한 항목/상품이 모두 기록됨
+        Order loaded = orderRepository.findWithItemsById(orderId).orElseThrow();
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(loaded));
+
+        assertEquals(1, json.get("items").size());
+        assertEquals("graph", json.get("items").get(0).get("product").get("name").asText());
+        assertEquals("ITEMS", json.get("pricingBasis").asText());
+    }
+
+    @Test
+    void uninitializedProductProxyIsWrittenAsIdOnly() {
+        Long productId = productRepository.save(Product.builder()
+                .name("proxy").price(Money.of("1.00")).stockQuantity(1).category("test").build()).getId();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Product proxy = entityManager.getReference(Product.class, productId);
+            OrderItem item = OrderItem.builder().id(1L).product(proxy).quantity(1).price(Money.of("1.00")).build();
+            try {
+                JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(item));
+                assertEquals(productId, json.get("product").get("id").asLong());
+                assertFalse(json.get("product").has("name"));
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
+            assertFalse(Hibernate.isInitialized(proxy));
+        });
+    }
+}
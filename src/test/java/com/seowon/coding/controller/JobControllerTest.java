@@ -0,0 +1,88 @@
+package com.seowon.coding.controller;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.service.ProcessService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "app.orders.expiry.enabled=false")
+@AutoConfigureMockMvc
+@WithMockUser
+class JobControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProcessService processService;
+
+    @Test
+    void bulkShipRunsInBackgroundAndRejectsDuplicates() throws Exception {
+        String jobId = "api-" + UUID.randomUUID();
+        Long orderId = orderRepository.save(Order.create("customer", "job@example.com", LocalDateTime.now())).getId();
+        String body = "{\"jobId\":\"" + jobId + "\",\"orderIds\":[" + orderId + "]}";
+
+        mockMvc.perform(post("/api/jobs/bulk-ship").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/jobs/" + jobId));
+        mockMvc.perform(post("/api/jobs/bulk-ship").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isConflict());
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (processService.findStatus(jobId).orElseThrow().getStatus() != ProcessingStatus.Status.COMPLETED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(ProcessingStatus.Status.COMPLETED, processService.findStatus(jobId).orElseThrow().getStatus());
+        assertEquals(Order.OrderStatus.PROCESSING, orderRepository.findById(orderId).orElseThrow().getStatus());
+
+        mockMvc.perform(post("/api/jobs/" + jobId + "/resume"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void distributedBulkShipJoinsTheSameJob() throws Exception {
+        String jobId = "dist-" + UUID.randomUUID();
+        Long orderId = orderRepository.save(Order.create("customer", "job@example.com", LocalDateTime.now())).getId();
+        String body = "{\"jobId\":\"" + jobId + "\",\"orderIds\":[" + orderId + "]}";
+
+        for (int node = 0; node < 2; node++) {
+            mockMvc.perform(post("/api/jobs/bulk-ship/distributed").contentType(MediaType.APPLICATION_JSON).content(body))
+                    .andExpect(status().isAccepted())
+                    .andExpect(header().string(HttpHeaders.LOCATION, "/api/jobs/" + jobId));
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (processService.findStatus(jobId).orElseThrow().getStatus() != ProcessingStatus.Status.COMPLETED
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertEquals(ProcessingStatus.Status.COMPLETED, processService.findStatus(jobId).orElseThrow().getStatus());
+        assertEquals(Order.OrderStatus.PROCESSING, orderRepository.findById(orderId).orElseThrow().getStatus());
+    }
+
+    @Test
+    void unknownJobCannotBeResumed() throws Exception {
+        mockMvc.perform(post("/api/jobs/missing-" + UUID.randomUUID() + "/resume"))
+                .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,61 @@
+package com.seowon.coding.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class OrderControllerTest {
+
+    private static final MediaType CBOR = MediaType.parseMediaType("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void ordersAreNegotiatedAsCbor() throws Exception {
+        MvcResult cbor = mockMvc.perform(get("/api/orders").accept(CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(CBOR))
+                .andReturn();
+        MvcResult json = mockMvc.perform(get("/api/orders").accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andReturn();
+
+        assertTrue(cbor.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        assertTrue(json.getResponse().getHeaders(HttpHeaders.VARY).contains(HttpHeaders.ACCEPT));
+        JsonNode decoded = objectMapper.copyWith(new CBORFactory()).readTree(cbor.getResponse().getContentAsByteArray());
+        assertEquals(objectMapper.readTree(json.getResponse().getContentAsByteArray()), decoded);
+    }
+
+    @Test
+    void halfSpecifiedTimelineCursorIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/orders/timeline").param("email", "cursor@example.com").param("beforeId", "10"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders/timeline").param("email", "cursor@example.com")
+                        .param("beforeDate", "2025-01-02T03:04:05"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders/timeline").param("email", "cursor@example.com"))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,48 @@
+package com.seowon.coding.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Currency;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void ofRoundsToCurrencyScale() {
+        assertEquals(10004L, Money.of("100.045").getMinorUnits()); // HALF_EVEN
+        assertEquals(10006L, Money.of("100.055").getMinorUnits());
+        assertEquals(new BigDecimal("100.00"), Money.of(BigDecimal.valueOf(100.0)).toBigDecimal());
+    }
+
+    @Test
+    void arithmetic() {
+        Money price = Money.of("19.99");
+
+        assertEquals(Money.of("59.97"), price.times(3));
+        assertEquals(Money.of("29.99"), price.plus(Money.of("10.00")));
+        assertEquals(Money.of("9.99"), price.minus(Money.of("10.00")));
+    }
+
+    @Test
+    void multiplyRoundsOnce() {
+        Money base = Money.of("100.00");
+        BigDecimal factor = new BigDecimal("1.15").multiply(new BigDecimal("1.10"));
+
+        assertEquals(Money.of("126.50"), base.multiply(factor));
+    }
+
+    @Test
+    void currencyMismatchRejected() {
+        Money usd = Money.of("1.00");
+        Money krw = Money.of(BigDecimal.ONE, Currency.getInstance("KRW"));
+
+        assertThrows(IllegalArgumentException.class, () -> usd.plus(krw));
+    }
+
+    @Test
+    void overflowRejected() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).times(2));
+    }
+}
@@ -0,0 +1,115 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.inventory.InventoryView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.bulk-delete.chunk-size=2")
+class BulkDeleteServiceTest {
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryView inventoryView;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deletesOrdersWithItemsByIdsInChunks() {
+        Product product = saveProduct();
+        List<Long> ids = List.of(
+                saveOrder(product, LocalDateTime.now(), Order.OrderStatus.PENDING),
+                saveOrder(product, LocalDateTime.now(), Order.OrderStatus.PENDING),
+                saveOrder(product, LocalDateTime.now(), Order.OrderStatus.PENDING));
+
+        BulkDeleteResult result = bulkDeleteService.deleteOrders(List.of(ids.get(0), ids.get(1), ids.get(2), -1L));
+
+        assertEquals(3, result.deleted());
+        ids.forEach(id -> assertFalse(orderRepository.existsById(id)));
+    }
+
+    @Test
+    void deletesOrdersByStatusAndAge() {
+        Product product = saveProduct();
+        LocalDateTime old = LocalDateTime.now().minusDays(400);
+        Long oldCancelled = saveOrder(product, old, Order.OrderStatus.CANCELLED);
+        Long oldDelivered = saveOrder(product, old, Order.OrderStatus.DELIVERED);
+        Long recentCancelled = saveOrder(product, LocalDateTime.now(), Order.OrderStatus.CANCELLED);
+
+        bulkDeleteService.deleteOrders(Order.OrderStatus.CANCELLED, LocalDateTime.now().minusDays(30));
+
+        assertFalse(orderRepository.existsById(oldCancelled));
+        assertTrue(orderRepository.existsById(oldDelivered));
+        assertTrue(orderRepository.existsById(recentCancelled));
+    }
+
+    @Test
+    void referencedProductsAreSkipped() {
+        Product referenced = saveProduct();
+        Product unused = saveProduct();
+        saveOrder(referenced, LocalDateTime.now(), Order.OrderStatus.PENDING);
+
+        BulkDeleteResult result = bulkDeleteService.deleteProducts(List.of(referenced.getId(), unused.getId()));
+
+        assertEquals(1, result.deleted());
+        assertEquals(List.of(referenced.getId()), result.skipped());
+        assertTrue(productRepository.existsById(referenced.getId()));
+        assertFalse(productRepository.existsById(unused.getId()));
+        assertEquals(InventoryView.UNKNOWN, inventoryView.getStock(unused.getId()));
+    }
+
+    @Test
+    void productsReferencedByArchivedOrdersAreSkipped() {
+        Product archivedOnly = saveProduct();
+        long archivedOrderId = System.nanoTime();
+        jdbcTemplate.update("INSERT INTO orders_archive (id, customer_email, status, order_date) VALUES (?, ?, 'DELIVERED', ?)",
+                archivedOrderId, "bulk-delete@example.com", LocalDateTime.now().minusYears(2));
+        jdbcTemplate.update("INSERT INTO order_item_archive (id, order_id, product_id, product_name, quantity, price) " +
+                "VALUES (?, ?, ?, ?, 1, 1.00)", archivedOrderId, archivedOrderId, archivedOnly.getId(), archivedOnly.getName());
+
+        BulkDeleteResult result = bulkDeleteService.deleteProducts(List.of(archivedOnly.getId()));
+
+        assertEquals(0, result.deleted());
+        assertEquals(List.of(archivedOnly.getId()), result.skipped());
+        assertTrue(productRepository.existsById(archivedOnly.getId()));
+    }
+
+    private Product saveProduct() {
+        return productRepository.save(Product.builder()
+                .name("bulk-delete").price(Money.of("1.00")).stockQuantity(100).category("test").build());
+    }
+
+    private Long saveOrder(Product product, LocalDateTime orderDate, Order.OrderStatus status) {
+        return transactionTemplate.execute(tx -> {
+            Order order = Order.create("customer", "bulk-delete@example.com", orderDate);
+            order.addItem(OrderItem.builder().product(product).quantity(1).price(product.getPrice()).build());
+            order.setStatus(status);
+            return orderRepository.save(order).getId();
+        });
+    }
+}
@@ -0,0 +1,83 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.JobItemRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 작업에 resume 이 동시에 들어와도 한 번만 실행되는지 (실제 DB 의 조건부 UPDATE 로 선점)
+ */
+@SpringBootTest(properties = {"app.jobs.chunk-size=2", "app.orders.expiry.enabled=false"})
+class BulkShipJobResumeTest {
+
+    @Autowired
+    private BulkShipJobService bulkShipJobService;
+
+    @Autowired
+    private ProcessService processService;
+
+    @Autowired
+    private JobItemRepository jobItemRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Test
+    void concurrentResumesRunTheJobOnce() throws Exception {
+        String jobId = "resume-" + UUID.randomUUID();
+        List<Long> orderIds = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            orderIds.add(orderRepository.save(Order.create("customer", "resume@example.com", LocalDateTime.now())).getId());
+        }
+        jobItemRepository.insertAll(jobId, orderIds);
+        processService.startJobRequiresNew(jobId, orderIds.size());
+        processService.markFailedRequiresNew(jobId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch ready = new CountDownLatch(2);
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<ProcessingStatus>> results = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    go.await();
+                    return bulkShipJobService.resume(jobId);
+                }));
+            }
+            ready.await();
+            go.countDown();
+
+            int rejected = 0;
+            for (Future<ProcessingStatus> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    assertInstanceOf(IllegalStateException.class, e.getCause());
+                    rejected++;
+                }
+            }
+            assertTrue(rejected <= 1);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        ProcessingStatus status = processService.findStatus(jobId).orElseThrow();
+        assertEquals(ProcessingStatus.Status.COMPLETED, status.getStatus());
+        // 두 실행이 같은 커서에서 시작했다면 체크포인트가 중복 집계됨
+        assertEquals(orderIds.size(), status.getProcessed());
+        assertEquals(0, status.getSkipped());
+    }
+}
@@ -0,0 +1,102 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.JobItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkShipJobServiceTest {
+
+    @Mock
+    private JobItemRepository jobItemRepository;
+
+    @Mock
+    private ProcessService processService;
+
+    @Mock
+    private BulkShipmentWorker bulkShipmentWorker;
+
+    @Mock
+    private OrderService orderService;
+
+    private BulkShipJobService bulkShipJobService;
+
+    @BeforeEach
+    void setUp() {
+        bulkShipJobService = new BulkShipJobService(jobItemRepository, processService, bulkShipmentWorker, orderService, 3, 1, 1, 600, 1);
+    }
+
+    @Test
+    void resumeStartsAfterCheckpoint() {
+        ProcessingStatus failed = ProcessingStatus.builder()
+                .jobId("job-1").total(5).processed(3).lastProcessedId(3L)
+                .status(ProcessingStatus.Status.FAILED).build();
+        when(processService.findStatus("job-1")).thenReturn(Optional.of(failed));
+        when(processService.claimForResumeRequiresNew(eq("job-1"), any())).thenReturn(true);
+        when(jobItemRepository.findNextOrderIds(eq("job-1"), eq(3L), any())).thenReturn(List.of(4L, 5L));
+        when(jobItemRepository.findNextOrderIds(eq("job-1"), eq(5L), any())).thenReturn(List.of());
+
+        bulkShipJobService.resume("job-1");
+
+        verify(bulkShipmentWorker, times(1)).shipChunk("job-1", List.of(4L, 5L));
+        verify(jobItemRepository, never()).findNextOrderIds(eq("job-1"), eq(Long.MIN_VALUE), any());
+        verify(processService, times(1)).markCompletedRequiresNew("job-1");
+    }
+
+    @Test
+    void runningJobIsNotResumedTwice() {
+        ProcessingStatus running = ProcessingStatus.builder()
+                .jobId("job-4").total(5).processed(3).lastProcessedId(3L)
+                .status(ProcessingStatus.Status.RUNNING).build();
+        when(processService.findStatus("job-4")).thenReturn(Optional.of(running));
+        when(processService.claimForResumeRequiresNew(eq("job-4"), any())).thenReturn(false);
+
+        assertThrows(IllegalStateException.class, () -> bulkShipJobService.resume("job-4"));
+
+        verifyNoInteractions(bulkShipmentWorker);
+        verify(jobItemRepository, never()).findNextOrderIds(anyString(), anyLong(), any());
+    }
+
+    @Test
+    void poisonRecordIsSkippedAfterRetries() {
+        when(processService.findStatus("job-2"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(ProcessingStatus.builder().jobId("job-2").total(3).build()));
+        when(jobItemRepository.findNextOrderIds(eq("job-2"), eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 2L, 3L));
+        when(jobItemRepository.findNextOrderIds(eq("job-2"), eq(3L), any())).thenReturn(List.of());
+        doThrow(new IllegalStateException("poison")).when(bulkShipmentWorker).shipChunk("job-2", List.of(1L, 2L, 3L));
+        doThrow(new IllegalStateException("poison")).when(bulkShipmentWorker).shipChunk("job-2", List.of(2L));
+
+        bulkShipJobService.start("job-2", List.of(3L, 1L, 2L));
+
+        verify(bulkShipmentWorker, times(2)).shipChunk("job-2", List.of(1L, 2L, 3L)); // retryLimit = 1
+        verify(bulkShipmentWorker, times(1)).skip("job-2", 2L);
+        verify(processService, times(1)).markCompletedRequiresNew("job-2");
+    }
+
+    @Test
+    void exceedingSkipLimitFailsJob() {
+        when(processService.findStatus("job-3"))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(ProcessingStatus.builder().jobId("job-3").total(2).build()));
+        when(jobItemRepository.findNextOrderIds(eq("job-3"), eq(Long.MIN_VALUE), any())).thenReturn(List.of(1L, 2L));
+        doThrow(new IllegalStateException("poison")).when(bulkShipmentWorker).shipChunk(eq("job-3"), anyList());
+
+        assertThrows(IllegalStateException.class, () -> bulkShipJobService.start("job-3", List.of(1L, 2L)));
+
+        verify(bulkShipmentWorker, times(1)).skip("job-3", 1L);
+        verify(processService, times(1)).markFailedRequiresNew("job-3");
+        verify(processService, never()).markCompletedRequiresNew("job-3");
+    }
+}
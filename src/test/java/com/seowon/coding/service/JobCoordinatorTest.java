@@ -0,0 +1,163 @@
+package com.seowon.coding.service;
+
+import com.seowon.coding.CodingApplication;
+import com.seowon.coding.domain.model.JobPartition;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.ProcessingStatus;
+import com.seowon.coding.domain.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 같은 DB 를 공유하는 두 노드(JobCoordinator 인스턴스)를 흉내내어 중복 claim 이 없는지 확인
+ * 마지막 테스트는 같은 파일 DB(AUTO_SERVER, Flyway 스키마)를 보는 애플리케이션 두 개를 띄워 실제 노드처럼 실행
+ */
+@SpringBootTest(properties = {"app.jobs.partition-size=10", "app.jobs.lease-seconds=1"})
+class JobCoordinatorTest {
+
+    @Autowired
+    private JobCoordinator nodeA;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private JobCoordinator newNode() {
+        return beanFactory.createBean(JobCoordinator.class);
+    }
+
+    @Test
+    void partitionsAreClaimedExactlyOnceAcrossNodes() throws Exception {
+        String jobId = "job-" + UUID.randomUUID();
+        nodeA.registerPartitions(jobId, LongStream.rangeClosed(1, 95).boxed().toList());
+        JobCoordinator nodeB = newNode();
+        assertNotEquals(nodeA.getNodeId(), nodeB.getNodeId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Set<Integer> claimed = ConcurrentHashMap.newKeySet();
+        List<Integer> duplicates = new CopyOnWriteArrayList<>();
+        Callable<Void> drainA = drain(nodeA, jobId, claimed, duplicates);
+        Callable<Void> drainB = drain(nodeB, jobId, claimed, duplicates);
+        for (Future<Void> f : executor.invokeAll(List.of(drainA, drainB))) {
+            f.get();
+        }
+        executor.shutdown();
+
+        assertEquals(10, claimed.size());
+        assertTrue(duplicates.isEmpty());
+        assertTrue(nodeA.isJobFinished(jobId));
+        assertEquals(95, nodeA.processedCount(jobId));
+    }
+
+    @Test
+    void expiredLeaseIsTakenOver() throws Exception {
+        String jobId = "job-" + UUID.randomUUID();
+        nodeA.registerPartitions(jobId, List.of(1L, 2L, 3L));
+        JobCoordinator nodeB = newNode();
+
+        JobPartition stalled = nodeA.claimNext(jobId).orElseThrow();
+        assertTrue(nodeB.claimNext(jobId).isEmpty());
+
+        Thread.sleep(1_100);
+
+        JobPartition takenOver = nodeB.claimNext(jobId).orElseThrow();
+        assertEquals(stalled.getId(), takenOver.getId());
+        assertEquals(nodeB.getNodeId(), takenOver.getOwner());
+        assertFalse(nodeA.heartbeat(stalled));
+        assertThrows(LeaseLostException.class,
+                () -> transactionTemplate.executeWithoutResult(status -> nodeA.complete(stalled)));
+    }
+
+    @Test
+    void failedPartitionIsNotClaimedAgain() throws Exception {
+        String jobId = "job-" + UUID.randomUUID();
+        nodeA.registerPartitions(jobId, List.of(1L, 2L, 3L));
+        JobCoordinator nodeB = newNode();
+
+        JobPartition failed = nodeA.claimNext(jobId).orElseThrow();
+        nodeA.fail(failed, JobCoordinator.describe(new IllegalStateException("boom")));
+
+        Thread.sleep(1_100);
+
+        assertTrue(nodeB.claimNext(jobId).isEmpty());
+        assertFalse(nodeA.isJobFinished(jobId));
+    }
+
+    @Test
+    void distributedBulkShipRunsOnTwoApplicationNodes() throws Exception {
+        String url = "jdbc:h2:file:./build/job-nodes/" + UUID.randomUUID() + "/coding;AUTO_SERVER=TRUE";
+        try (ConfigurableApplicationContext first = startNode(url);
+             ConfigurableApplicationContext second = startNode(url)) {
+            OrderRepository orders = first.getBean(OrderRepository.class);
+            List<Long> orderIds = new ArrayList<>();
+            for (int i = 0; i < 25; i++) {
+                orderIds.add(orders.save(Order.create("customer", "node@example.com", LocalDateTime.now())).getId());
+            }
+            String jobId = "job-" + UUID.randomUUID();
+
+            ExecutorService executor = Executors.newFixedThreadPool(2);
+            List<Callable<Void>> nodes = new ArrayList<>();
+            for (ConfigurableApplicationContext node : List.of(first, second)) {
+                nodes.add(() -> {
+                    node.getBean(OrderService.class).bulkShipOrdersDistributed(jobId, orderIds);
+                    return null;
+                });
+            }
+            for (Future<Void> f : executor.invokeAll(nodes)) {
+                f.get();
+            }
+            executor.shutdown();
+
+            JobCoordinator coordinator = second.getBean(JobCoordinator.class);
+            assertNotEquals(first.getBean(JobCoordinator.class).getNodeId(), coordinator.getNodeId());
+            assertTrue(coordinator.isJobFinished(jobId));
+            assertEquals(25, coordinator.processedCount(jobId));
+            ProcessingStatus status = second.getBean(ProcessService.class).findStatus(jobId).orElseThrow();
+            assertEquals(ProcessingStatus.Status.COMPLETED, status.getStatus());
+            assertTrue(second.getBean(OrderRepository.class).findAllById(orderIds).stream()
+                    .allMatch(order -> order.getStatus() == Order.OrderStatus.PROCESSING));
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(String url) {
+        return new SpringApplicationBuilder(CodingApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.flyway.enabled=true",
+                "--spring.jpa.hibernate.ddl-auto=none",
+                "--spring.jpa.defer-datasource-initialization=false",
+                "--spring.sql.init.mode=never",
+                "--app.jobs.partition-size=10",
+                "--app.orders.expiry.enabled=false",
+                "--app.archive.enabled=false",
+                "--app.audit.directory=build/audit-test/" + UUID.randomUUID());
+    }
+
+    private Callable<Void> drain(JobCoordinator node, String jobId, Set<Integer> claimed, List<Integer> duplicates) {
+        return () -> {
+            Optional<JobPartition> next;
+            while ((next = node.claimNext(jobId)).isPresent()) {
+                JobPartition partition = next.get();
+                if (!claimed.add(partition.getPartitionNo())) {
+                    duplicates.add(partition.getPartitionNo());
+                }
+                transactionTemplate.executeWithoutResult(status -> node.complete(partition));
+            }
+            return null;
+        };
+    }
+}
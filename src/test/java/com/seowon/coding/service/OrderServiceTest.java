@@ -1,5 +1,6 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Order;
 import com.seowon.coding.domain.model.OrderItem;
 import com.seowon.coding.domain.model.Product;
@@ -14,7 +15,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
@@ -46,14 +46,14 @@ class OrderServiceTest {
         product1 = Product.builder()
                 .id(1L)
                 .name("Test Product 1")
-                .price(BigDecimal.valueOf(100.00))
+                .price(Money.of("100.00"))
                 .stockQuantity(10)
                 .build();
 
         product2 = Product.builder()
                 .id(2L)
                 .name("Test Product 2")
-                .price(BigDecimal.valueOf(200.00))
+                .price(Money.of("200.00"))
                 .stockQuantity(20)
                 .build();
 
@@ -77,7 +77,7 @@ class OrderServiceTest {
                 .customerEmail("john@example.com")
                 .status(Order.OrderStatus.PENDING)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(BigDecimal.valueOf(400.00))
+                .totalAmount(Money.of("400.00"))
                 .build();
         order1.addItem(item1);
 
@@ -87,7 +87,7 @@ class OrderServiceTest {
                 .customerEmail("jane@example.com")
                 .status(Order.OrderStatus.PROCESSING)
                 .orderDate(LocalDateTime.now())
-                .totalAmount(BigDecimal.valueOf(200.00))
+                .totalAmount(Money.of("200.00"))
                 .build();
         order2.addItem(item2);
     }
@@ -115,14 +115,22 @@ class OrderServiceTest {
 
     @Test
     void updateOrder() {
-        when(orderRepository.existsById(1L)).thenReturn(true);
+        Order stored = Order.builder()
+                .id(1L)
+                .pricingBasis(Order.PricingBasis.POLICIES)
+                .couponCode("SALE10")
+                .build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(stored));
         when(orderRepository.save(any(Order.class))).thenReturn(order1);
 
         Order updated = orderService.updateOrder(1L, order1);
 
         assertNotNull(updated);
         assertEquals("John Doe", updated.getCustomerName());
-        verify(orderRepository, times(1)).existsById(1L);
+        // 요청 본문에 없는 합계 계산 기준/쿠폰은 저장된 값 유지
+        assertEquals(Order.PricingBasis.POLICIES, order1.getPricingBasis());
+        assertEquals("SALE10", order1.getCouponCode());
+        verify(orderRepository, times(1)).findById(1L);
         verify(orderRepository, times(1)).save(order1);
     }
 
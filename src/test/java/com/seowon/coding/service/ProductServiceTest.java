@@ -1,6 +1,9 @@
 package com.seowon.coding.service;
 
+import com.seowon.coding.domain.model.Money;
 import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.CatalogStamp;
+import com.seowon.coding.domain.repository.PriceHistoryJdbcRepository;
 import com.seowon.coding.domain.repository.ProductRepository;
 import com.seowon.coding.service.ProductService;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +14,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +29,9 @@ class ProductServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private PriceHistoryJdbcRepository priceHistoryJdbcRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -38,7 +44,7 @@ class ProductServiceTest {
                 .id(1L)
                 .name("Test Product 1")
                 .description("Description 1")
-                .price(BigDecimal.valueOf(100.00))
+                .price(Money.of("100.00"))
                 .stockQuantity(10)
                 .category("Electronics")
                 .build();
@@ -47,7 +53,7 @@ class ProductServiceTest {
                 .id(2L)
                 .name("Test Product 2")
                 .description("Description 2")
-                .price(BigDecimal.valueOf(200.00))
+                .price(Money.of("200.00"))
                 .stockQuantity(20)
                 .category("Books")
                 .build();
@@ -123,4 +129,18 @@ class ProductServiceTest {
         verify(productRepository, times(1)).findByCategory("Electronics");
     }
 
+    @Test
+    void getCatalogStamp() {
+        LocalDateTime modified = LocalDateTime.of(2025, 1, 1, 10, 0);
+        when(productRepository.findCatalogStamp()).thenReturn(new CatalogStamp(2L, modified));
+        when(productRepository.findCatalogStampByCategory("Books")).thenReturn(new CatalogStamp(1L, modified));
+
+        CatalogStamp all = productService.getCatalogStamp(null);
+        CatalogStamp books = productService.getCatalogStamp("Books");
+
+        assertNotEquals(all.etag(), books.etag());
+        assertEquals(all.lastModifiedMillis(), books.lastModifiedMillis());
+        verify(productRepository, never()).findAll();
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,130 @@
+package com.seowon.coding.service.archive;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.archive.after-days=30", "app.archive.batch-size=2", "app.archive.throttle-ms=0",
+        "app.orders.expiry.enabled=false"})
+class OrderArchiverTest {
+
+    @Autowired
+    private OrderArchiver orderArchiver;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void closedOldOrdersMoveToArchiveAndRemainQueryableByDateRange() {
+        String email = UUID.randomUUID() + "@example.com";
+        LocalDateTime old = LocalDateTime.now().minusDays(100);
+        Long shipped = save(email, old, Order.OrderStatus.DELIVERED);
+        Long cancelled = save(email, old.plusDays(1), Order.OrderStatus.CANCELLED);
+        Long pending = save(email, old.plusDays(2), Order.OrderStatus.PENDING);
+        Long recent = save(email, LocalDateTime.now().minusDays(1), Order.OrderStatus.DELIVERED);
+
+        orderArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        assertFalse(orderRepository.existsById(shipped));
+        assertFalse(orderRepository.existsById(cancelled));
+        assertTrue(orderRepository.existsById(pending));
+        assertTrue(orderRepository.existsById(recent));
+
+        List<Order> all = transactionTemplate.execute(status -> orderRepository.findByCustomerEmailAndOrderDateBetween(
+                email, old.minusDays(1), LocalDateTime.now()));
+        assertEquals(List.of(shipped, cancelled, pending, recent), all.stream().map(Order::getId).toList());
+        Order archived = all.get(0);
+        assertEquals(1, archived.getItems().size());
+        assertEquals(Money.of("20.00"), archived.getTotalAmount());
+        assertEquals("archive-test", archived.getItems().get(0).getProduct().getName());
+        assertEquals(Money.of("10.00"), archived.getItems().get(0).getPrice());
+
+        assertEquals(List.of(shipped, cancelled, pending, recent),
+                orderRepository.findByCustomerEmail(email).stream().map(Order::getId).toList());
+
+        List<Order> hotOnly = orderRepository.findByCustomerEmailAndOrderDateBetween(
+                email, LocalDateTime.now().minusDays(10), LocalDateTime.now());
+        assertEquals(List.of(recent), hotOnly.stream().map(Order::getId).toList());
+    }
+
+    @Test
+    void archivedItemsKeepSnapshotAfterProductIsDeleted() {
+        String email = UUID.randomUUID() + "@example.com";
+        Long shipped = save(email, LocalDateTime.now().minusDays(100), Order.OrderStatus.DELIVERED);
+        orderArchiver.archive(LocalDateTime.now().minusDays(30));
+        Long productId = transactionTemplate.execute(status -> orderRepository.findByCustomerEmail(email).get(0)
+                .getItems().get(0).getProduct().getId());
+        productRepository.deleteById(productId);
+
+        List<Order> orders = orderRepository.findByCustomerEmail(email);
+
+        assertEquals(List.of(shipped), orders.stream().map(Order::getId).toList());
+        assertEquals(productId, orders.get(0).getItems().get(0).getProduct().getId());
+        assertEquals("archive-test", orders.get(0).getItems().get(0).getProduct().getName());
+        assertEquals(Money.of("10.00"), orders.get(0).getItems().get(0).getPrice());
+    }
+
+    @Test
+    void archivedOrderIsFoundByIdAndCannotBeSaved() {
+        String email = UUID.randomUUID() + "@example.com";
+        Long shipped = save(email, LocalDateTime.now().minusDays(100), Order.OrderStatus.DELIVERED);
+        orderArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        Order archived = orderService.getOrderWithItemsById(shipped).orElseThrow();
+
+        assertTrue(archived.isArchived());
+        assertEquals(1, archived.getItems().size());
+        assertEquals(Money.of("20.00"), archived.getTotalAmount());
+        archived.setCustomerName("changed");
+        assertThrows(IllegalStateException.class, () -> orderRepository.save(archived));
+        assertFalse(orderRepository.existsById(shipped));
+    }
+
+    @Test
+    void openStatusLookupReturnsOnlyHotOrders() {
+        String email = UUID.randomUUID() + "@example.com";
+        save(email, LocalDateTime.now().minusDays(100), Order.OrderStatus.DELIVERED);
+        Long pending = save(email, LocalDateTime.now().minusDays(100), Order.OrderStatus.PENDING);
+        orderArchiver.archive(LocalDateTime.now().minusDays(30));
+
+        List<Order> found = orderRepository.findByStatus(Order.OrderStatus.PENDING);
+
+        assertTrue(found.stream().map(Order::getId).toList().contains(pending));
+        assertTrue(found.stream().noneMatch(Order::isArchived));
+        assertTrue(orderRepository.findByStatus(Order.OrderStatus.DELIVERED).stream().anyMatch(Order::isArchived));
+    }
+
+    private Long save(String email, LocalDateTime orderDate, Order.OrderStatus status) {
+        return transactionTemplate.execute(tx -> {
+            Product product = productRepository.save(Product.builder()
+                    .name("archive-test").price(Money.of("10.00")).stockQuantity(10).category("test").build());
+            Order order = Order.create("customer", email, orderDate);
+            order.addItem(OrderItem.builder().product(product).quantity(2).price(product.getPrice()).build());
+            order.setStatus(status);
+            return orderRepository.save(order).getId();
+        });
+    }
+}
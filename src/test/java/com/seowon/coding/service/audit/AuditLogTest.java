@@ -0,0 +1,177 @@
+package com.seowon.coding.service.audit;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.catalog.CatalogFormat;
+import com.seowon.coding.service.catalog.ProductCatalogService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.audit.directory=build/audit-test/${random.uuid}", "app.orders.expiry.enabled=false"})
+class AuditLogTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AuditLog auditLog;
+
+    @Autowired
+    private ProductCatalogService productCatalogService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void committedOrderAndStockChangesAreRecorded() throws Exception {
+        Product product = productRepository.save(Product.builder()
+                .name("audit").price(Money.of("4.00")).stockQuantity(10).category("test").build());
+        Order order = orderService.placeOrder("John", "john@example.com", List.of(product.getId()), List.of(3));
+
+        assertTrue(auditLog.isActive());
+        Path directory = auditLog.getDirectory();
+        List<AuditRecord> records = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (records.size() < 2 && System.currentTimeMillis() < deadline) {
+            records.clear();
+            AuditLogReader.read(directory, 1, record -> {
+                if (record.type() == AuditEventType.ORDER_PLACED && record.entityId() == order.getId()
+                        || record.type() == AuditEventType.STOCK_CHANGED && record.entityId() == product.getId()) {
+                    records.add(record);
+                }
+            });
+            Thread.sleep(20);
+        }
+
+        AuditRecord placed = records.stream().filter(r -> r.type() == AuditEventType.ORDER_PLACED).findFirst().orElseThrow();
+        assertEquals(1, placed.arg1());
+        assertEquals(1200, placed.arg2());
+        AuditRecord stock = records.stream().filter(r -> r.type() == AuditEventType.STOCK_CHANGED).findFirst().orElseThrow();
+        assertEquals(-3, stock.arg1());
+        assertEquals(7, stock.arg2());
+    }
+
+    @Test
+    void catalogImportStockChangesAreRecorded() throws Exception {
+        Product changed = productRepository.save(Product.builder()
+                .name("catalog").price(Money.of("4.00")).stockQuantity(5).category("test").build());
+        Product unchanged = productRepository.save(Product.builder()
+                .name("catalog").price(Money.of("4.00")).stockQuantity(5).category("test").build());
+        String csv = "id,name,price,stockQuantity,category\n" +
+                changed.getId() + ",catalog,4.00,8,test\n" +
+                unchanged.getId() + ",catalog,4.00,5,test\n";
+
+        productCatalogService.importCatalog(CatalogFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        List<AuditRecord> records = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (records.isEmpty() && System.currentTimeMillis() < deadline) {
+            AuditLogReader.read(auditLog.getDirectory(), 1, record -> {
+                if (record.type() == AuditEventType.STOCK_CHANGED && record.entityId() == changed.getId()) {
+                    records.add(record);
+                }
+            });
+            Thread.sleep(20);
+        }
+        assertEquals(1, records.size());
+        assertEquals(3, records.get(0).arg1());
+        assertEquals(8, records.get(0).arg2());
+
+        List<AuditRecord> others = new ArrayList<>();
+        AuditLogReader.read(auditLog.getDirectory(), 1, record -> {
+            if (record.type() == AuditEventType.STOCK_CHANGED && record.entityId() == unchanged.getId()) {
+                others.add(record);
+            }
+        });
+        assertTrue(others.isEmpty());
+    }
+
+    @Test
+    void rotatesSegmentsAndStopsAtTornRecord() throws Exception {
+        AuditLog auditLog = new AuditLog(true, tempDir, DataSize.ofBytes(64 + 48 * 4), 16, Duration.ofMillis(10), Duration.ofMillis(5), new SimpleMeterRegistry());
+        auditLog.start();
+        for (int i = 1; i <= 10; i++) {
+            assertTrue(auditLog.append(AuditEventType.STOCK_CHANGED, i, -1, AuditEventType.NONE));
+        }
+        auditLog.close();
+
+        List<Path> segments = AuditLogReader.segments(tempDir);
+        assertEquals(3, segments.size());
+        assertEquals(10, AuditLogReader.lastSequence(tempDir));
+
+        // 마지막 segment 의 두 번째 기록(순번 10)을 손상
+        try (FileChannel channel = FileChannel.open(segments.get(2), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{1}), 64 + 48 + 20);
+        }
+        List<Long> sequences = new ArrayList<>();
+        AuditLogReader.ReadStats stats = AuditLogReader.read(tempDir, 3, record -> sequences.add(record.sequence()));
+
+        assertEquals(List.of(3L, 4L, 5L, 6L, 7L, 8L, 9L), sequences);
+        assertEquals(1, stats.tornSegments());
+
+        // 다시 열면 손상된 기록 다음이 아닌 마지막 유효 기록 다음 순번부터 새 segment 에 기록
+        AuditLog reopened = new AuditLog(true, tempDir, DataSize.ofBytes(64 + 48 * 4), 16, Duration.ofMillis(10), Duration.ofMillis(5), new SimpleMeterRegistry());
+        reopened.start();
+        assertTrue(reopened.append(AuditEventType.PRICE_CHANGED, 1, 100, 200));
+        reopened.close();
+        assertEquals(10, AuditLogReader.lastSequence(tempDir));
+    }
+
+    @Test
+    void fullRingDropsInsteadOfBlockingWhileWriterFails() throws Exception {
+        Path directory = tempDir.resolve("failing");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLog auditLog = new AuditLog(true, directory, DataSize.ofKilobytes(4), 16, Duration.ofMillis(10), Duration.ofMillis(5), meterRegistry);
+        auditLog.start();
+        // 디렉터리가 사라져 writer 가 segment 를 만들 수 없음
+        Files.delete(directory.resolve("audit.lock"));
+        Files.delete(directory);
+
+        long started = System.nanoTime();
+        int accepted = 0;
+        for (int i = 1; i <= 64; i++) {
+            if (auditLog.append(AuditEventType.STOCK_CHANGED, i, -1, AuditEventType.NONE)) {
+                accepted++;
+            }
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        assertTrue(accepted <= 16);
+        assertEquals(64 - accepted, meterRegistry.get("audit.dropped").gauge().value());
+        assertTrue(elapsedMillis < 2_000, "append blocked for " + elapsedMillis + " ms");
+        auditLog.close();
+    }
+
+    @Test
+    void rejectsUnknownSegmentHeader() throws IOException {
+        try (FileChannel channel = FileChannel.open(tempDir.resolve(AuditSegmentWriter.segmentName(1)),
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(128));
+        }
+        assertThrows(IOException.class, () -> AuditLogReader.read(tempDir, 1, record -> {}));
+    }
+}
@@ -0,0 +1,36 @@
+package com.seowon.coding.service.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void readsQuotedFieldsAcrossLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(
+                "id,name,description\r\n" +
+                "1,\"Desk, oak\",\"says \"\"hi\"\"\nsecond line\"\n" +
+                "2,Lamp,\n"));
+
+        assertEquals(List.of("id", "name", "description"), reader.next());
+        assertEquals(1, reader.getRecordLine());
+        assertEquals(List.of("1", "Desk, oak", "says \"hi\"\nsecond line"), reader.next());
+        assertEquals(2, reader.getRecordLine());
+        assertEquals(List.of("2", "Lamp", ""), reader.next());
+        assertEquals(4, reader.getRecordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void escapeRoundTrips() throws IOException {
+        String value = "a,\"b\"\nc";
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(CsvRecordReader.escape(value) + ",x"));
+
+        assertEquals(List.of(value, "x"), reader.next());
+    }
+}
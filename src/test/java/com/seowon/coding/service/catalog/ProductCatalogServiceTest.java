@@ -0,0 +1,73 @@
+package com.seowon.coding.service.catalog;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.seowon.coding.domain.repository.ProductCatalogRow;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class ProductCatalogServiceTest {
+
+    @Autowired
+    private ProductCatalogService productCatalogService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void csvErrorsReportPhysicalLine() throws Exception {
+        String category = "csv-" + UUID.randomUUID();
+        String csv = "name,description,price,stockQuantity,category\n" +
+                "Desk,\"two\nlines\",10.00,1," + category + "\n" +
+                "Lamp,,-1,1," + category + "\n";
+
+        CatalogImportResult result = productCatalogService.importCatalog(CatalogFormat.CSV,
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(4, result.getErrors().get(0).line());
+    }
+
+    @Test
+    void cborSequenceRoundTrip() throws Exception {
+        ObjectMapper cbor = objectMapper.copyWith(new CBORFactory());
+        String category = "cbor-" + UUID.randomUUID();
+        ByteArrayOutputStream request = new ByteArrayOutputStream();
+        cbor.writeValue(request, new ProductCatalogRow(null, "Widget", "cbor import", new BigDecimal("12.50"), 7, category));
+        cbor.writeValue(request, new ProductCatalogRow(null, "", "missing name", new BigDecimal("1.00"), 1, category));
+
+        CatalogImportResult result = productCatalogService.importCatalog(CatalogFormat.CBOR,
+                new ByteArrayInputStream(request.toByteArray()));
+
+        assertEquals(1, result.getSucceeded());
+        assertEquals(1, result.getFailed());
+        assertEquals(2, result.getErrors().get(0).line());
+        assertEquals(1, productRepository.findByCategory(category).size());
+
+        ByteArrayOutputStream exported = new ByteArrayOutputStream();
+        productCatalogService.export(CatalogFormat.CBOR, exported);
+        List<ProductCatalogRow> rows = cbor.readerFor(ProductCatalogRow.class)
+                .<ProductCatalogRow>readValues(exported.toByteArray())
+                .readAll();
+        assertEquals(productRepository.count(), rows.size());
+        ProductCatalogRow widget = rows.stream().filter(row -> category.equals(row.category())).findFirst().orElseThrow();
+        assertEquals(0, new BigDecimal("12.50").compareTo(widget.price()));
+        assertEquals(7, widget.stockQuantity());
+    }
+}
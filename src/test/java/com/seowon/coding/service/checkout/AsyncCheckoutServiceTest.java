@@ -0,0 +1,82 @@
+package com.seowon.coding.service.checkout;
+
+import com.seowon.coding.domain.model.CheckoutTicket;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.CheckoutTicketRepository;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.checkout.async.workers=1", "app.checkout.async.batch-size=5"})
+class AsyncCheckoutServiceTest {
+
+    @Autowired
+    private AsyncCheckoutService asyncCheckoutService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CheckoutTicketRepository checkoutTicketRepository;
+
+    @Test
+    void acceptedTicketsArePlacedAndFailedOnes() throws Exception {
+        Product product = productRepository.save(Product.builder()
+                .name("async-checkout").price(Money.of("5.00")).stockQuantity(3).category("test").build());
+
+        CheckoutTicket ok = asyncCheckoutService.submit("John", "john@example.com", List.of(product.getId()), List.of(2));
+        CheckoutTicket tooMany = asyncCheckoutService.submit("Jane", "jane@example.com", List.of(product.getId()), List.of(2));
+        assertEquals(CheckoutTicket.Status.ACCEPTED, ok.getStatus());
+
+        CheckoutTicket completed = asyncCheckoutService.poll(ok.getId(), Duration.ofSeconds(10)).get().orElseThrow();
+        CheckoutTicket failed = asyncCheckoutService.poll(tooMany.getId(), Duration.ofSeconds(10)).get().orElseThrow();
+
+        // 한 배치로 묶여도 배치 실패 후 접수 순서대로 한 건씩 처리되므로 먼저 접수한 쪽이 성공
+        assertEquals(CheckoutTicket.Status.COMPLETED, completed.getStatus());
+        assertTrue(orderRepository.existsById(completed.getOrderId()));
+        assertEquals(CheckoutTicket.Status.FAILED, failed.getStatus());
+        assertNotNull(failed.getError());
+        assertEquals(1, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    void timedOutPollerDoesNotDropSharedWaiter() throws Exception {
+        // 대기열에 넣지 않은 접수표 (stale-after 전에는 처리되지 않음)
+        CheckoutTicket ticket = checkoutTicketRepository.save(
+                CheckoutTicket.accept("John", "john@example.com", List.of(1L), List.of(1), "other-node"));
+        Map<?, ?> waiters = (Map<?, ?>) ReflectionTestUtils.getField(asyncCheckoutService, "waiters");
+
+        CompletableFuture<Optional<CheckoutTicket>> longPoll = asyncCheckoutService.poll(ticket.getId(), Duration.ofSeconds(2));
+        Optional<CheckoutTicket> shortPoll = asyncCheckoutService.poll(ticket.getId(), Duration.ofMillis(50)).get();
+
+        assertEquals(CheckoutTicket.Status.ACCEPTED, shortPoll.orElseThrow().getStatus());
+        assertFalse(longPoll.isDone());
+        assertTrue(waiters.containsKey(ticket.getId()));
+
+        assertEquals(CheckoutTicket.Status.ACCEPTED, longPoll.get().orElseThrow().getStatus());
+        assertFalse(waiters.containsKey(ticket.getId()));
+    }
+
+    @Test
+    void invalidRequestIsRejectedBeforeQueueing() {
+        assertThrows(IllegalArgumentException.class,
+                () -> asyncCheckoutService.submit("John", "john@example.com", List.of(Long.MAX_VALUE), List.of(1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> asyncCheckoutService.submit("John", "john@example.com", List.of(1L), List.of(0)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.seowon.coding.service.expiry;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.OrderService;
+import com.seowon.coding.service.inventory.InventoryView;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.orders.pending-timeout=300ms", "app.orders.expiry.tick-ms=50"})
+class PendingOrderExpiryServiceTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InventoryView inventoryView;
+
+    @Test
+    void unpaidOrderIsCancelledAndStockReleased() throws InterruptedException {
+        Product product = productRepository.save(Product.builder()
+                .name("expiry").price(Money.of("3.00")).stockQuantity(10).category("test").build());
+        Order unpaid = orderService.placeOrder("John", "john@example.com", List.of(product.getId()), List.of(3));
+        Order paid = orderService.placeOrder("Jane", "jane@example.com", List.of(product.getId()), List.of(2));
+        Order processing = orderRepository.findById(paid.getId()).orElseThrow();
+        processing.markAsProcessing();
+        orderRepository.save(processing);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (orderRepository.findById(unpaid.getId()).orElseThrow().getStatus() == Order.OrderStatus.PENDING
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertEquals(Order.OrderStatus.CANCELLED, orderRepository.findById(unpaid.getId()).orElseThrow().getStatus());
+        assertEquals(Order.OrderStatus.PROCESSING, orderRepository.findById(paid.getId()).orElseThrow().getStatus());
+        assertEquals(8, productRepository.findById(product.getId()).orElseThrow().getStockQuantity());
+        assertEquals(8, inventoryView.getStock(product.getId()));
+    }
+}
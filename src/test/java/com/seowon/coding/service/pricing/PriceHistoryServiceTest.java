@@ -0,0 +1,123 @@
+package com.seowon.coding.service.pricing;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.PriceChange;
+import com.seowon.coding.domain.repository.PriceHistoryEntry;
+import com.seowon.coding.domain.repository.PriceHistoryJdbcRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.pricing.chunk-size=2")
+class PriceHistoryServiceTest {
+
+    @Autowired
+    private PriceHistoryService priceHistoryService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private PriceHistoryJdbcRepository priceHistoryJdbcRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void bulkChangeIsJournaledAndRolledBackByBatch() {
+        Product first = saveProduct("10.00");
+        Product second = saveProduct("20.00");
+        Product third = saveProduct("30.00");
+
+        PriceChangeBatch batch = priceHistoryService.applyBulkPriceChange(
+                List.of(first.getId(), second.getId(), third.getId(), -1L), new BigDecimal("10"), false);
+
+        assertEquals(3, batch.changed());
+        assertEquals(List.of(-1L), batch.missing());
+        assertEquals(Money.of("11.00"), price(first));
+        assertEquals(Money.of("33.00"), price(third));
+
+        // 이후 다시 바뀐 상품은 되돌리지 않음
+        Product changedLater = productRepository.findById(second.getId()).orElseThrow();
+        changedLater.setPrice(Money.of("25.00"));
+        productService.updateProduct(second.getId(), changedLater);
+
+        PriceRollbackResult rollback = priceHistoryService.rollback(batch.batchId());
+
+        assertEquals(2, rollback.restored());
+        assertEquals(1, rollback.skipped());
+        assertEquals(Money.of("10.00"), price(first));
+        assertEquals(Money.of("25.00"), price(second));
+        assertEquals(Money.of("30.00"), price(third));
+
+        List<PriceHistoryEntry> history = priceHistoryService.getHistory(first.getId());
+        assertEquals(2, history.size());
+        assertEquals(rollback.rollbackBatchId(), history.get(1).batchId());
+    }
+
+    @Test
+    void priceAsOfUsesHistory() throws InterruptedException {
+        Product product = saveProduct("10.00");
+        LocalDateTime beforeChange = LocalDateTime.now();
+        Thread.sleep(5);
+
+        PriceChangeBatch batch = priceHistoryService.applyBulkPriceChange(List.of(product.getId()), new BigDecimal("50"), false);
+        Thread.sleep(5);
+        LocalDateTime afterChange = LocalDateTime.now();
+
+        assertEquals(Optional.of(Money.of("10.00")), priceHistoryService.getPriceAsOf(product.getId(), beforeChange));
+        assertEquals(Optional.of(Money.of("15.00")), priceHistoryService.getPriceAsOf(product.getId(), afterChange));
+
+        priceHistoryService.rollback(batch.batchId());
+        assertEquals(Optional.of(Money.of("15.00")), priceHistoryService.getPriceAsOf(product.getId(), afterChange));
+        assertEquals(Optional.of(Money.of("10.00")), priceHistoryService.getPriceAsOf(product.getId(), LocalDateTime.now()));
+    }
+
+    @Test
+    void productChangedTwiceInBatchIsRestoredToOriginalPrice() {
+        Product product = saveProduct("10.00");
+        List<PriceChange> changes = List.of(
+                new PriceChange(product.getId(), Money.of("10.00"), Money.of("12.00")),
+                new PriceChange(product.getId(), Money.of("12.00"), Money.of("15.00")));
+        transactionTemplate.executeWithoutResult(tx -> {
+            LocalDateTime now = LocalDateTime.now();
+            priceHistoryJdbcRepository.updatePrices(changes.subList(1, 2), now);
+            priceHistoryJdbcRepository.append(changes, "twice", now);
+        });
+
+        PriceRollbackResult rollback = priceHistoryService.rollback("twice");
+
+        assertEquals(2, rollback.restored());
+        assertEquals(0, rollback.skipped());
+        assertEquals(Money.of("10.00"), price(product));
+    }
+
+    @Test
+    void unknownBatchIsRejected() {
+        assertThrows(NoSuchElementException.class, () -> priceHistoryService.rollback("missing"));
+    }
+
+    private Money price(Product product) {
+        return productRepository.findPriceById(product.getId()).orElseThrow();
+    }
+
+    private Product saveProduct(String price) {
+        return productRepository.save(Product.builder()
+                .name("pricing").price(Money.of(price)).stockQuantity(10).category("test").build());
+    }
+}
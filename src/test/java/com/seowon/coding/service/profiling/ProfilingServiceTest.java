@@ -0,0 +1,60 @@
+package com.seowon.coding.service.profiling;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProfilingServiceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recordingSummarizesCustomEvents() throws Exception {
+        ProfilingService profilingService = new ProfilingService(directory, Duration.ofMinutes(1), 2, Duration.ZERO);
+        ProfilingRecording recording = profilingService.start("default", Duration.ofSeconds(30));
+        assertThrows(IllegalStateException.class, () -> profilingService.start("default", Duration.ofSeconds(30)));
+
+        for (int i = 0; i < 10; i++) {
+            OrderPhaseEvent.begin("placeOrder", "save").finish(1);
+        }
+        JobChunkEvent.begin("job-1", "chunk").finish(500, 1L);
+
+        ProfileReport report = profilingService.stop(recording.id());
+
+        assertTrue(Files.size(profilingService.file(recording.id())) > 0);
+        ProfileReport.EventStat save = report.events().stream()
+                .filter(stat -> stat.key().equals("placeOrder/save"))
+                .findFirst().orElseThrow();
+        assertEquals(10, save.count());
+        assertTrue(report.events().stream().anyMatch(stat -> stat.key().equals("chunk") && stat.count() == 1));
+    }
+
+    @Test
+    void oldRecordingsAreEvicted() throws Exception {
+        ProfilingService profilingService = new ProfilingService(directory, Duration.ofMinutes(1), 2, Duration.ZERO);
+        for (int i = 0; i < 3; i++) {
+            profilingService.stop(profilingService.start("default", Duration.ofSeconds(30)).id());
+        }
+        assertEquals(2, profilingService.list().size());
+        try (var files = Files.list(directory)) {
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    void invalidDurationAndKeepAreRejected() {
+        ProfilingService profilingService = new ProfilingService(directory, Duration.ofMinutes(1), 2, Duration.ZERO);
+
+        assertThrows(IllegalArgumentException.class, () -> profilingService.start("default", Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> profilingService.start("default", Duration.ofSeconds(-1)));
+        assertTrue(profilingService.list().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> new ProfilingService(directory, Duration.ofMinutes(1), 0, Duration.ZERO));
+    }
+}
@@ -0,0 +1,134 @@
+package com.seowon.coding.service.reconcile;
+
+import com.seowon.coding.domain.model.DiscountPolicy;
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.OrderItem;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.model.ShippingPolicy;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {"app.reconcile.parallelism=2", "app.reconcile.partition-size=2", "app.orders.expiry.enabled=false"})
+class OrderTotalReconcilerTest {
+
+    @Autowired
+    private OrderTotalReconciler reconciler;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ShippingPolicy shippingPolicy;
+
+    @Autowired
+    private DiscountPolicy discountPolicy;
+
+    @Test
+    void reportsAndFixesDriftedTotals() {
+        Product product = saveProduct();
+        Long intact = saveOrder(product, 2, Order.OrderStatus.DELIVERED);
+        Long drifted = saveOrder(product, 3, Order.OrderStatus.DELIVERED);
+        jdbcTemplate.update("UPDATE orders SET total_amount = 1.00 WHERE id = ?", drifted);
+
+        ReconciliationResult report = reconciler.reconcile(Set.of(), false, intact, drifted);
+
+        assertEquals(2, report.scanned());
+        assertEquals(1, report.mismatched());
+        assertEquals(drifted, report.samples().get(0).orderId());
+        assertEquals(Money.of("30.00"), report.samples().get(0).expected());
+        assertEquals(0, report.fixed());
+        assertEquals(new BigDecimal("1.00"), storedTotal(drifted));
+
+        ReconciliationResult fixed = reconciler.reconcile(Set.of(Order.OrderStatus.DELIVERED), true, intact, drifted);
+
+        assertEquals(1, fixed.fixed());
+        assertEquals(new BigDecimal("30.00"), storedTotal(drifted));
+        assertEquals(new BigDecimal("20.00"), storedTotal(intact));
+    }
+
+    @Test
+    void repricesOpenOrdersOnTheirOwnBasis() {
+        Product product = saveProduct();
+        Long itemsOnly = saveOrder(product, 1, Order.OrderStatus.PENDING);
+        Long withPolicies = saveOrderWithPolicies(product, 1, null);
+        Long withCoupon = saveOrderWithPolicies(product, 2, "SALE10");
+        Long shipped = saveOrderWithPolicies(product, 1, null);
+        jdbcTemplate.update("UPDATE orders SET status = 'SHIPPED' WHERE id = ?", shipped);
+        jdbcTemplate.update("UPDATE orders SET total_amount = 1.00 WHERE id IN (?, ?, ?)", withPolicies, withCoupon, shipped);
+
+        ReconciliationResult result = reconciler.reconcile(OrderTotalReconciler.OPEN_STATUSES, true, itemsOnly, shipped);
+
+        // 항목 합계만으로 저장된 주문은 그대로
+        assertEquals(new BigDecimal("10.00"), storedTotal(itemsOnly));
+        // 10.00 + 배송비 5.00 (무료 배송 기준 미만)
+        assertEquals(new BigDecimal("15.00"), storedTotal(withPolicies));
+        // 20.00 + 배송비 5.00 - 쿠폰 10.00
+        assertEquals(new BigDecimal("15.00"), storedTotal(withCoupon));
+        assertEquals(new BigDecimal("1.00"), storedTotal(shipped));
+        assertEquals(3, result.scanned());
+        assertEquals(2, result.fixed());
+    }
+
+    @Test
+    void ordersWithUnknownBasisAreNotFixed() {
+        Product product = saveProduct();
+        Long unknown = saveOrderWithPolicies(product, 1, null);
+        jdbcTemplate.update("UPDATE orders SET pricing_basis = NULL, total_amount = 15.00 WHERE id = ?", unknown);
+
+        ReconciliationResult result = reconciler.reconcile(Set.of(), true, unknown, unknown);
+
+        assertEquals(1, result.scanned());
+        assertEquals(1, result.unknownBasis());
+        assertEquals(0, result.mismatched());
+        assertEquals(0, result.fixed());
+        assertEquals(new BigDecimal("15.00"), storedTotal(unknown));
+    }
+
+    private BigDecimal storedTotal(Long orderId) {
+        return jdbcTemplate.queryForObject("SELECT total_amount FROM orders WHERE id = ?", BigDecimal.class, orderId);
+    }
+
+    private Product saveProduct() {
+        return productRepository.save(Product.builder()
+                .name("reconcile").price(Money.of("10.00")).stockQuantity(100).category("test").build());
+    }
+
+    private Long saveOrder(Product product, int quantity, Order.OrderStatus status) {
+        return transactionTemplate.execute(tx -> {
+            Order order = Order.create("customer", "reconcile@example.com", LocalDateTime.now());
+            order.addItem(OrderItem.builder().product(product).quantity(quantity).price(product.getPrice()).build());
+            order.setStatus(status);
+            return orderRepository.save(order).getId();
+        });
+    }
+
+    private Long saveOrderWithPolicies(Product product, int quantity, String couponCode) {
+        return transactionTemplate.execute(tx -> {
+            Order order = Order.create("customer", "reconcile@example.com", LocalDateTime.now());
+            order.addItem(OrderItem.builder().product(product).quantity(quantity).price(product.getPrice()).build());
+            order.recalculateTotalAmount(shippingPolicy, discountPolicy, couponCode);
+            return orderRepository.save(order).getId();
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.seowon.coding.service.timeline;
+
+import com.seowon.coding.domain.model.Money;
+import com.seowon.coding.domain.model.Order;
+import com.seowon.coding.domain.model.Product;
+import com.seowon.coding.domain.repository.OrderRepository;
+import com.seowon.coding.domain.repository.OrderTimelineEntry;
+import com.seowon.coding.domain.repository.ProductRepository;
+import com.seowon.coding.service.BulkDeleteService;
+import com.seowon.coding.service.OrderService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "app.orders.expiry.enabled=false")
+class OrderTimelineServiceTest {
+
+    @Autowired
+    private OrderTimelineService orderTimelineService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private BulkDeleteService bulkDeleteService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void pagesNewestFirstAndFollowsStatusChanges() {
+        String email = "timeline-" + UUID.randomUUID() + "@example.com";
+        Product product = productRepository.save(Product.builder()
+                .name("timeline").price(Money.of("2.50")).stockQuantity(100).category("test").build());
+        Order first = orderService.placeOrder("John", email, List.of(product.getId()), List.of(1));
+        Order second = orderService.placeOrder("John", email, List.of(product.getId(), product.getId()), List.of(1, 2));
+        Order third = orderService.placeOrder("John", email, List.of(product.getId()), List.of(4));
+        orderService.placeOrder("Jane", "other-" + email, List.of(product.getId()), List.of(1));
+
+        OrderTimelinePage page = orderTimelineService.getTimeline(email, null, null, 2);
+
+        assertEquals(List.of(third.getId(), second.getId()), page.orders().stream().map(OrderTimelineEntry::orderId).toList());
+        OrderTimelineEntry latest = page.orders().get(0);
+        assertEquals(Order.OrderStatus.PENDING, latest.status());
+        assertEquals(Money.of("10.00"), latest.totalAmount());
+        assertEquals(1, latest.itemCount());
+        assertEquals(2, page.orders().get(1).itemCount());
+        assertEquals(second.getId(), page.nextBeforeId());
+
+        OrderTimelinePage next = orderTimelineService.getTimeline(email, page.nextBeforeDate(), page.nextBeforeId(), 2);
+        assertEquals(List.of(first.getId()), next.orders().stream().map(OrderTimelineEntry::orderId).toList());
+        assertNull(next.nextBeforeId());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = orderRepository.findById(first.getId()).orElseThrow();
+            order.markAsCancelled();
+        });
+        assertEquals(Order.OrderStatus.CANCELLED, orderTimelineService.getTimeline(email, page.nextBeforeDate(), page.nextBeforeId(), 2)
+                .orders().get(0).status());
+
+        bulkDeleteService.deleteOrders(List.of(second.getId()));
+        assertEquals(List.of(third.getId(), first.getId()),
+                orderTimelineService.getTimeline(email, null, null, 10).orders().stream().map(OrderTimelineEntry::orderId).toList());
+    }
+
+    @Test
+    void rolledBackOrderIsNotListed() {
+        String email = "rollback-" + UUID.randomUUID() + "@example.com";
+        Product product = productRepository.save(Product.builder()
+                .name("timeline").price(Money.of("1.00")).stockQuantity(1).category("test").build());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderService.placeOrder("John", email, List.of(product.getId()), List.of(1));
+            status.setRollbackOnly();
+        });
+
+        assertTrue(orderTimelineService.getTimeline(email, null, null, 10).orders().isEmpty());
+    }
+}
@@ -0,0 +1,60 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    @Test
+    void expiresAtDeadlineAcrossLevels() {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 4, 0);
+        wheel.schedule(1L, 25);     // level 0
+        wheel.schedule(2L, 1_000);  // level 3
+        wheel.schedule(3L, -5);     // 이미 지난 시각
+
+        List<Long> expired = new ArrayList<>();
+        wheel.advance(20, expired::add);
+        assertEquals(List.of(3L), expired);
+
+        wheel.advance(30, expired::add);
+        assertEquals(List.of(3L, 1L), expired);
+
+        wheel.advance(990, expired::add);
+        assertEquals(List.of(3L, 1L), expired);
+        wheel.advance(1_000, expired::add);
+        assertEquals(List.of(3L, 1L, 2L), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void neverExpiresEarlyOrLateAgainstReference() {
+        SplittableRandom random = new SplittableRandom(7);
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(10, 8, 12_345);
+        Map<Long, Long> deadlines = new HashMap<>();
+        long now = 12_345;
+        long id = 1;
+
+        for (int step = 0; step < 20_000; step++) {
+            for (int i = random.nextInt(3); i > 0; i--) {
+                long deadline = now - 20 + random.nextLong(random.nextBoolean() ? 200 : 200_000);
+                deadlines.put(id, deadline);
+                wheel.schedule(id++, deadline);
+            }
+            now += random.nextInt(10) == 0 ? random.nextInt(5_000) : random.nextInt(30);
+
+            long currentTick = now / 10;
+            wheel.advance(now, expiredId -> {
+                Long deadline = deadlines.remove(expiredId);
+                assertNotNull(deadline);
+                assertTrue((deadline + 9) / 10 <= currentTick, "expired early: " + expiredId);
+            });
+            for (long deadline : deadlines.values()) {
+                assertTrue((deadline + 9) / 10 > currentTick, "expired late");
+            }
+            assertEquals(deadlines.size(), wheel.size());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.seowon.coding.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongIntOpenHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        LongIntOpenHashMap map = new LongIntOpenHashMap(4);
+
+        map.put(1L, 10);
+        map.put(2L, 20);
+        map.put(1L, 11);
+
+        assertEquals(11, map.get(1L, -1));
+        assertEquals(20, map.get(2L, -1));
+        assertEquals(-1, map.get(3L, -1));
+        assertEquals(2, map.size());
+
+        assertTrue(map.remove(1L));
+        assertFalse(map.remove(1L));
+        assertEquals(-1, map.get(1L, -1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    void zeroKeyRejected() {
+        LongIntOpenHashMap map = new LongIntOpenHashMap(4);
+
+        assertThrows(IllegalArgumentException.class, () -> map.put(0L, 1));
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        LongIntOpenHashMap map = new LongIntOpenHashMap(16);
+        Map<Long, Integer> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(1);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextLong(1, 5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                int value = random.nextInt();
+                expected.put(key, value);
+                map.put(key, value);
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        for (long key = 1; key < 5_000; key++) {
+            assertEquals(expected.getOrDefault(key, Integer.MIN_VALUE), map.get(key, Integer.MIN_VALUE));
+        }
+    }
+}